@@ -0,0 +1,38 @@
+package com.fnb.apierrorlogger.controller;
+
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity tags for resources whose every change moves their {@code updatedAt} time.
+ */
+final class ETags {
+
+    /**
+     * Clients may keep a copy but must revalidate it before reuse, which costs a 304 when unchanged.
+     */
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * Strong entity tag for a resource last written at the given time, or at its creation time when
+     * no update time was recorded; matches the time the repositories' {@code findUpdatedAtById} return.
+     */
+    static String of(LocalDateTime updatedAt, LocalDateTime createdAt) {
+        LocalDateTime lastModified = updatedAt != null ? updatedAt : createdAt;
+        if (lastModified == null) {
+            throw new IllegalArgumentException("A resource without any write time has no entity tag");
+        }
+        return of(lastModified);
+    }
+
+    /**
+     * Strong entity tag for a resource last written at the given time.
+     */
+    static String of(LocalDateTime updatedAt) {
+        return "\"" + updatedAt + "\"";
+    }
+}
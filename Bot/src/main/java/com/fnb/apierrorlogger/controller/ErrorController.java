@@ -11,9 +11,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -64,14 +66,29 @@ public class ErrorController {
     /**
      * Get error request details by ID
      * GET /api/errors/{id}
+     * 
+     * Responses carry an ETag; a request whose If-None-Match still matches gets 304 Not Modified
+     * without the error request's payloads being loaded.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ErrorRequestResponse> getErrorRequest(@PathVariable UUID id) {
+    public ResponseEntity<ErrorRequestResponse> getErrorRequest(@PathVariable UUID id, WebRequest webRequest) {
         log.info("Fetching error request with ID: {}", id);
         
+        Optional<LocalDateTime> updatedAt = errorService.getErrorRequestUpdatedAt(id);
+        if (updatedAt.isPresent() && webRequest.checkNotModified(ETags.of(updatedAt.get()))) {
+            log.info("Error request {} not modified", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(ETags.of(updatedAt.get()))
+                    .cacheControl(ETags.CACHE_CONTROL)
+                    .build();
+        }
+        
         ErrorRequestResponse response = errorService.getErrorRequest(id);
         
         log.info("Retrieved error request: {}", id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response.getUpdatedAt(), response.getCreatedAt()))
+                .cacheControl(ETags.CACHE_CONTROL)
+                .body(response);
     }
 }
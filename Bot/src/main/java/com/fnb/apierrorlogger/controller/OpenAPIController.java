@@ -2,17 +2,31 @@ package com.fnb.apierrorlogger.controller;
 
 import com.fnb.apierrorlogger.dto.OpenAPISpecificationRequest;
 import com.fnb.apierrorlogger.dto.OpenAPISpecificationResponse;
+import com.fnb.apierrorlogger.dto.OpenAPISpecificationSummaryResponse;
 import com.fnb.apierrorlogger.dto.OpenAPISpecificationUpdateRequest;
+import com.fnb.apierrorlogger.dto.PageResponse;
+import com.fnb.apierrorlogger.dto.SpecificationImportReport;
 import com.fnb.apierrorlogger.model.OpenAPISpecification;
 import com.fnb.apierrorlogger.service.OpenAPIManager;
+import com.fnb.apierrorlogger.service.SpecificationBundler;
+import com.fnb.apierrorlogger.service.SpecificationContentReader;
+import com.fnb.apierrorlogger.service.SpecificationImporter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,7 +42,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OpenAPIController {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final OpenAPIManager openAPIManager;
+    private final SpecificationContentReader specificationContentReader;
+    private final SpecificationImporter specificationImporter;
+    private final SpecificationBundler specificationBundler;
 
     /**
      * Upload a new OpenAPI specification.
@@ -63,13 +82,116 @@ public class OpenAPIController {
     }
 
     /**
-     * Get all OpenAPI specifications.
+     * Upload a new OpenAPI specification sent as the raw request body.
+     * POST /api/openapi/content?apiIdentifier=...&uploadedBy=...
+     * 
+     * The body is the YAML or JSON specification itself, optionally gzip-compressed with
+     * {@code Content-Encoding: gzip}, so large specifications are not buffered as a JSON string field.
+     * 
+     * @param apiIdentifier The unique identifier for the API
+     * @param uploadedBy The user uploading the specification
+     * @param contentEncoding The body's content encoding
+     * @param contentLength The body's declared length
+     * @param body The specification content
+     * @return The created specification
+     * 
+     * Requirement: 5.1
+     */
+    @PostMapping("/content")
+    public ResponseEntity<OpenAPISpecificationResponse> uploadSpecificationContent(
+            @RequestParam String apiIdentifier,
+            @RequestParam(required = false) String uploadedBy,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false, defaultValue = "-1") long contentLength,
+            InputStream body) throws IOException {
+        
+        log.info("Received raw upload of OpenAPI specification for API: {}", apiIdentifier);
+        
+        String specContent = specificationContentReader.read(body, contentEncoding, contentLength);
+        try {
+            OpenAPISpecification specification = openAPIManager.uploadSpecification(
+                    apiIdentifier, specContent, uploadedBy);
+            
+            return ResponseEntity.status(HttpStatus.CREATED).body(OpenAPISpecificationResponse.fromEntity(specification));
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to upload specification: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Upload a new OpenAPI specification made of several files, sent as a zip archive in the raw request body.
+     * POST /api/openapi/bundle?apiIdentifier=...&root=openapi.yaml&uploadedBy=...
+     * 
+     * The root document may reference components in the other files of the archive by relative
+     * path; the bundle is stored as one self-contained specification.
+     * 
+     * @param apiIdentifier The unique identifier for the API
+     * @param root Path of the root document within the archive; defaults to the top-level openapi file
+     * @param uploadedBy The user uploading the specification
+     * @param body The zip archive
+     * @return The created specification
+     * 
+     * Requirement: 5.1
+     */
+    @PostMapping("/bundle")
+    public ResponseEntity<OpenAPISpecificationResponse> uploadSpecificationBundle(
+            @RequestParam String apiIdentifier,
+            @RequestParam(required = false) String root,
+            @RequestParam(required = false) String uploadedBy,
+            InputStream body) throws IOException {
+        
+        log.info("Received bundle upload of OpenAPI specification for API: {}", apiIdentifier);
+        
+        try {
+            String specContent = specificationBundler.bundle(body, root);
+            OpenAPISpecification specification = openAPIManager.uploadSpecification(
+                    apiIdentifier, specContent, uploadedBy);
+            
+            return ResponseEntity.status(HttpStatus.CREATED).body(OpenAPISpecificationResponse.fromEntity(specification));
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to upload specification bundle: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Import a zip archive of OpenAPI specifications sent as the raw request body.
+     * POST /api/openapi/import?uploadedBy=...
+     * 
+     * Each JSON or YAML file in the archive is the specification of the API named after the file.
+     * New APIs are created and existing ones updated; files that fail to parse are reported
+     * without stopping the others.
+     * 
+     * @param uploadedBy The user importing the specifications
+     * @param body The zip archive
+     * @return The outcome for each file in the archive
+     * 
+     * Requirements: 5.1, 5.5
+     */
+    @PostMapping("/import")
+    public ResponseEntity<SpecificationImportReport> importSpecifications(
+            @RequestParam(required = false) String uploadedBy,
+            InputStream body) throws IOException {
+        
+        log.info("Received bulk import of OpenAPI specifications");
+        
+        return ResponseEntity.ok(specificationImporter.importArchive(body, uploadedBy));
+    }
+
+    /**
+     * Get all OpenAPI specifications, including their content.
      * GET /api/openapi
      * 
      * @return List of all specifications
+     * @deprecated Loads every specification's content; list with {@code GET /api/openapi/summaries}
+     * and fetch content by ID instead
      * 
      * Requirement: 5.6
      */
+    @Deprecated
     @GetMapping
     public ResponseEntity<List<OpenAPISpecificationResponse>> getAllSpecifications() {
         log.info("Received request to get all OpenAPI specifications");
@@ -83,22 +205,63 @@ public class OpenAPIController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Get one page of OpenAPI specifications without their content, ordered by API identifier.
+     * GET /api/openapi/summaries?page=0&size=50
+     * 
+     * @param page The zero-based page number
+     * @param size The page size, at most {@value #MAX_PAGE_SIZE}
+     * @return The page of specification summaries
+     * 
+     * Requirement: 5.6
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<PageResponse<OpenAPISpecificationSummaryResponse>> getSpecificationSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("Received request to list OpenAPI specifications, page {} of size {}", page, size);
+        
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by("apiIdentifier"));
+        
+        return ResponseEntity.ok(PageResponse.fromPage(
+                openAPIManager.getSpecificationSummaries(pageRequest),
+                OpenAPISpecificationSummaryResponse::fromSummary));
+    }
+
     /**
      * Get a specific OpenAPI specification by ID.
      * GET /api/openapi/{id}
      * 
+     * Responses carry an ETag; a request whose If-None-Match still matches gets 304 Not Modified
+     * without the specification content being loaded.
+     * 
      * @param id The specification ID
      * @return The specification if found
      * 
      * Requirement: 5.6
      */
     @GetMapping("/{id}")
-    public ResponseEntity<OpenAPISpecificationResponse> getSpecification(@PathVariable UUID id) {
+    public ResponseEntity<OpenAPISpecificationResponse> getSpecification(@PathVariable UUID id, WebRequest webRequest) {
         log.info("Received request to get OpenAPI specification with ID: {}", id);
         
+        Optional<LocalDateTime> updatedAt = openAPIManager.getSpecificationUpdatedAt(id);
+        if (updatedAt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(ETags.of(updatedAt.get()))) {
+            log.info("OpenAPI specification {} not modified", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(ETags.of(updatedAt.get()))
+                    .cacheControl(ETags.CACHE_CONTROL)
+                    .build();
+        }
+        
         return openAPIManager.getSpecification(id)
-                .map(OpenAPISpecificationResponse::fromEntity)
-                .map(ResponseEntity::ok)
+                .map(specification -> ResponseEntity.ok()
+                        .eTag(ETags.of(specification.getUpdatedAt(), specification.getUploadedAt()))
+                        .cacheControl(ETags.CACHE_CONTROL)
+                        .body(OpenAPISpecificationResponse.fromEntity(specification)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -141,4 +304,82 @@ public class OpenAPIController {
             throw e;
         }
     }
+
+    /**
+     * Update an existing OpenAPI specification with content sent as the raw request body.
+     * PUT /api/openapi/{id}/content?updatedBy=...
+     * 
+     * @param id The specification ID to update
+     * @param updatedBy The user updating the specification
+     * @param contentEncoding The body's content encoding
+     * @param contentLength The body's declared length
+     * @param body The specification content, optionally gzip-compressed
+     * @return The updated specification
+     * 
+     * Requirement: 5.5
+     */
+    @PutMapping("/{id}/content")
+    public ResponseEntity<OpenAPISpecificationResponse> updateSpecificationContent(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String updatedBy,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false, defaultValue = "-1") long contentLength,
+            InputStream body) throws IOException {
+        
+        log.info("Received raw update of OpenAPI specification with ID: {}", id);
+        
+        String specContent = specificationContentReader.read(body, contentEncoding, contentLength);
+        try {
+            OpenAPISpecification specification = openAPIManager.updateSpecification(id, specContent, updatedBy);
+            
+            return ResponseEntity.ok(OpenAPISpecificationResponse.fromEntity(specification));
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to update specification: {}", e.getMessage());
+            
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            throw e;
+        }
+    }
+
+    /**
+     * Update an existing OpenAPI specification with a bundle sent as a zip archive in the raw request body.
+     * PUT /api/openapi/{id}/bundle?root=openapi.yaml&updatedBy=...
+     * 
+     * @param id The specification ID to update
+     * @param root Path of the root document within the archive; defaults to the top-level openapi file
+     * @param updatedBy The user updating the specification
+     * @param body The zip archive
+     * @return The updated specification
+     * 
+     * Requirement: 5.5
+     */
+    @PutMapping("/{id}/bundle")
+    public ResponseEntity<OpenAPISpecificationResponse> updateSpecificationBundle(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String root,
+            @RequestParam(required = false) String updatedBy,
+            InputStream body) throws IOException {
+        
+        log.info("Received bundle update of OpenAPI specification with ID: {}", id);
+        
+        try {
+            String specContent = specificationBundler.bundle(body, root);
+            OpenAPISpecification specification = openAPIManager.updateSpecification(id, specContent, updatedBy);
+            
+            return ResponseEntity.ok(OpenAPISpecificationResponse.fromEntity(specification));
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to update specification bundle: {}", e.getMessage());
+            
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package com.fnb.apierrorlogger.controller;
+
+import com.fnb.apierrorlogger.dto.BatchValidationItem;
+import com.fnb.apierrorlogger.dto.BatchValidationRequest;
+import com.fnb.apierrorlogger.dto.BatchValidationResponse;
+import com.fnb.apierrorlogger.dto.CacheStatsResponse;
+import com.fnb.apierrorlogger.dto.RevalidationJobResponse;
+import com.fnb.apierrorlogger.dto.WarmUpReportResponse;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.service.OpenAPIManager;
+import com.fnb.apierrorlogger.service.RevalidationService;
+import com.fnb.apierrorlogger.service.SpecificationCache;
+import com.fnb.apierrorlogger.service.SpecificationWarmUp;
+import com.fnb.apierrorlogger.service.ValidationEngine;
+import com.fnb.apierrorlogger.service.ValidationResultCache;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * REST controller for validation engine operations and diagnostics.
+ */
+@RestController
+@RequestMapping("/api/validate")
+@RequiredArgsConstructor
+@Slf4j
+public class ValidationController {
+
+    private final SpecificationCache specificationCache;
+    private final ValidationResultCache resultCache;
+    private final ValidationEngine validationEngine;
+    private final OpenAPIManager openAPIManager;
+    private final RevalidationService revalidationService;
+    private final SpecificationWarmUp specificationWarmUp;
+
+    /**
+     * Validate a batch of captured requests against one specification.
+     * POST /api/validate/batch
+     * 
+     * @param request The API identifier and the requests to validate
+     * @return One validation result per request, in the order they were submitted
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchValidationResponse> validateBatch(@Valid @RequestBody BatchValidationRequest request) {
+        log.info("Received batch of {} requests to validate for API: {}",
+                request.getRequests().size(), request.getApiIdentifier());
+        
+        Optional<OpenAPISpecification> specification =
+                openAPIManager.getSpecificationByApiIdentifier(request.getApiIdentifier());
+        if (specification.isEmpty()) {
+            log.warn("OpenAPI specification not found for API identifier: {}", request.getApiIdentifier());
+            return ResponseEntity.notFound().build();
+        }
+        
+        List<ErrorRequest> errorRequests = request.getRequests().stream()
+                .map(item -> toErrorRequest(item, specification.get()))
+                .toList();
+        List<ValidationResult> results = validationEngine.validateBatch(errorRequests, specification.get());
+        
+        int validCount = (int) results.stream().filter(ValidationResult::isValid).count();
+        BatchValidationResponse response = BatchValidationResponse.builder()
+                .apiIdentifier(request.getApiIdentifier())
+                .specificationId(specification.get().getId())
+                .total(results.size())
+                .validCount(validCount)
+                .invalidCount(results.size() - validCount)
+                .results(results)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get statistics for the parsed specification cache.
+     * GET /api/validate/cache/stats
+     * 
+     * @return Hit, miss and eviction counts with current cache size
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getSpecificationCacheStats() {
+        log.debug("Received request for specification cache statistics");
+        return ResponseEntity.ok(specificationCache.stats());
+    }
+
+    /**
+     * Get statistics for the validation result cache.
+     * GET /api/validate/result-cache/stats
+     * 
+     * @return Hit, miss, eviction and expiration counts with current cache size
+     */
+    @GetMapping("/result-cache/stats")
+    public ResponseEntity<CacheStatsResponse> getResultCacheStats() {
+        log.debug("Received request for validation result cache statistics");
+        return ResponseEntity.ok(resultCache.stats());
+    }
+
+    /**
+     * Get the report of the specification warm-up run at startup.
+     * GET /api/validate/warm-up
+     * 
+     * @return Warm-up status and the compile time of each specification, slowest first
+     */
+    @GetMapping("/warm-up")
+    public ResponseEntity<WarmUpReportResponse> getWarmUpReport() {
+        log.debug("Received request for specification warm-up report");
+        return ResponseEntity.ok(specificationWarmUp.getReport());
+    }
+
+    /**
+     * List the latest re-validation job for each specification.
+     * GET /api/validate/revalidation
+     * 
+     * @return Progress and throughput of each job
+     */
+    @GetMapping("/revalidation")
+    public ResponseEntity<List<RevalidationJobResponse>> getRevalidationJobs() {
+        log.debug("Received request for re-validation jobs");
+        
+        List<RevalidationJobResponse> responses = revalidationService.getJobs().stream()
+                .map(RevalidationJobResponse::fromJob)
+                .toList();
+        
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Get the latest re-validation job for a specification.
+     * GET /api/validate/revalidation/{specificationId}
+     * 
+     * @param specificationId The specification ID
+     * @return Progress and throughput of the job if one exists
+     */
+    @GetMapping("/revalidation/{specificationId}")
+    public ResponseEntity<RevalidationJobResponse> getRevalidationJob(@PathVariable UUID specificationId) {
+        log.debug("Received request for re-validation job of specification: {}", specificationId);
+        
+        return revalidationService.getJob(specificationId)
+                .map(RevalidationJobResponse::fromJob)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Re-validate every error request linked to a specification.
+     * POST /api/validate/revalidation/{specificationId}
+     * 
+     * @param specificationId The specification ID
+     * @return The started job
+     */
+    @PostMapping("/revalidation/{specificationId}")
+    public ResponseEntity<RevalidationJobResponse> startRevalidation(@PathVariable UUID specificationId) {
+        log.info("Received request to re-validate error requests for specification: {}", specificationId);
+        
+        if (openAPIManager.getSpecification(specificationId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        RevalidationJobResponse response = RevalidationJobResponse.fromJob(
+                revalidationService.startRevalidation(specificationId));
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Cancel the running re-validation job for a specification.
+     * DELETE /api/validate/revalidation/{specificationId}
+     * 
+     * @param specificationId The specification ID
+     * @return The job, which stops after its current chunk
+     */
+    @DeleteMapping("/revalidation/{specificationId}")
+    public ResponseEntity<RevalidationJobResponse> cancelRevalidation(@PathVariable UUID specificationId) {
+        log.info("Received request to cancel re-validation for specification: {}", specificationId);
+        
+        return revalidationService.cancel(specificationId)
+                .map(RevalidationJobResponse::fromJob)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ErrorRequest toErrorRequest(BatchValidationItem item, OpenAPISpecification specification) {
+        return ErrorRequest.builder()
+                .apiEndpoint(item.getApiEndpoint())
+                .httpMethod(item.getHttpMethod())
+                .requestPayload(item.getRequestPayload())
+                .responseStatus(item.getResponseStatus())
+                .responseBody(item.getResponseBody())
+                .timestamp(item.getTimestamp())
+                .openApiSpecId(specification.getId())
+                .build();
+    }
+}
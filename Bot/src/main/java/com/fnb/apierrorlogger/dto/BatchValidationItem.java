@@ -0,0 +1,33 @@
+package com.fnb.apierrorlogger.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A captured request to validate as part of a batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchValidationItem {
+    
+    @NotBlank(message = "API endpoint is required")
+    private String apiEndpoint;
+    
+    @NotBlank(message = "HTTP method is required")
+    private String httpMethod;
+    
+    private String requestPayload;
+    
+    private Integer responseStatus;
+    
+    private String responseBody;
+    
+    private LocalDateTime timestamp;
+}
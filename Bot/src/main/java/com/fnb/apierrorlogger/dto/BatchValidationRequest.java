@@ -0,0 +1,31 @@
+package com.fnb.apierrorlogger.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for validating many captured requests against one specification.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchValidationRequest {
+    
+    public static final int MAX_BATCH_SIZE = 10_000;
+    
+    @NotBlank(message = "API identifier is required")
+    private String apiIdentifier;
+    
+    @NotEmpty(message = "At least one request is required")
+    @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " requests can be validated per batch")
+    private List<@Valid BatchValidationItem> requests;
+}
@@ -0,0 +1,27 @@
+package com.fnb.apierrorlogger.dto;
+
+import com.fnb.apierrorlogger.model.ValidationResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a batch validation, with one result per request in input order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchValidationResponse {
+    
+    private String apiIdentifier;
+    private UUID specificationId;
+    private int total;
+    private int validCount;
+    private int invalidCount;
+    private List<ValidationResult> results;
+}
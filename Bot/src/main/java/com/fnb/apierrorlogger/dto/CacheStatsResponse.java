@@ -0,0 +1,25 @@
+package com.fnb.apierrorlogger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO with a point-in-time snapshot of cache statistics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+    
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long expirationCount;
+    private long entryCount;
+    private long totalWeight;
+    private long maxWeight;
+    private double hitRate;
+}
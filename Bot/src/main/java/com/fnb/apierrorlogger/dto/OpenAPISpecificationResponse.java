@@ -22,6 +22,8 @@ public class OpenAPISpecificationResponse {
     private String apiIdentifier;
     private String specContent;
     private String version;
+    private String title;
+    private Integer pathCount;
     private LocalDateTime uploadedAt;
     private String uploadedBy;
     private LocalDateTime updatedAt;
@@ -35,6 +37,8 @@ public class OpenAPISpecificationResponse {
                 .apiIdentifier(entity.getApiIdentifier())
                 .specContent(entity.getSpecContent())
                 .version(entity.getVersion())
+                .title(entity.getTitle())
+                .pathCount(entity.getPathCount())
                 .uploadedAt(entity.getUploadedAt())
                 .uploadedBy(entity.getUploadedBy())
                 .updatedAt(entity.getUpdatedAt())
@@ -0,0 +1,43 @@
+package com.fnb.apierrorlogger.dto;
+
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for an OpenAPI specification in a listing, without its content.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OpenAPISpecificationSummaryResponse {
+    
+    private UUID id;
+    private String apiIdentifier;
+    private String version;
+    private String title;
+    private Integer pathCount;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime updatedAt;
+    
+    /**
+     * Convert projection to response DTO.
+     */
+    public static OpenAPISpecificationSummaryResponse fromSummary(OpenAPISpecificationSummary summary) {
+        return OpenAPISpecificationSummaryResponse.builder()
+                .id(summary.getId())
+                .apiIdentifier(summary.getApiIdentifier())
+                .version(summary.getVersion())
+                .title(summary.getTitle())
+                .pathCount(summary.getPathCount())
+                .uploadedAt(summary.getUploadedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.fnb.apierrorlogger.dto;
+
+import com.fnb.apierrorlogger.service.RevalidationJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO with the progress and throughput of a re-validation job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevalidationJobResponse {
+
+    private UUID jobId;
+    private UUID specificationId;
+    private String status;
+    private long totalRows;
+    private long processedRows;
+    private long passedRows;
+    private long failedRows;
+    private long pendingRows;
+    private long chunks;
+    private double percentComplete;
+    private double rowsPerSecond;
+    private long elapsedMillis;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failureMessage;
+
+    /**
+     * Snapshot a job's progress.
+     */
+    public static RevalidationJobResponse fromJob(RevalidationJob job) {
+        long processed = job.getProcessedRows().get();
+        long total = job.getTotalRows();
+        return RevalidationJobResponse.builder()
+                .jobId(job.getJobId())
+                .specificationId(job.getSpecificationId())
+                .status(job.getStatus())
+                .totalRows(total)
+                .processedRows(processed)
+                .passedRows(job.getPassedRows().get())
+                .failedRows(job.getFailedRows().get())
+                .pendingRows(job.getPendingRows().get())
+                .chunks(job.getChunks().get())
+                .percentComplete(total > 0 ? Math.min(100.0, processed * 100.0 / total) : 100.0)
+                .rowsPerSecond(job.getRowsPerSecond())
+                .elapsedMillis(job.getElapsed().toMillis())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .failureMessage(job.getFailureMessage())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.fnb.apierrorlogger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Response DTO with the time taken to parse and compile one specification during warm-up.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecificationCompileTime {
+
+    private UUID specificationId;
+    private String apiIdentifier;
+    private String version;
+    private long contentLength;
+    private long compileMillis;
+    private boolean compiled;
+    private String failureMessage;
+}
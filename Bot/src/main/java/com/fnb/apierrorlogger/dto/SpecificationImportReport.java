@@ -0,0 +1,31 @@
+package com.fnb.apierrorlogger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO describing a bulk specification import, with one entry per file in the archive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecificationImportReport {
+
+    private int total;
+    private int createdCount;
+    private int updatedCount;
+    private int unchangedCount;
+    private int failedCount;
+    private int skippedCount;
+    private int parallelism;
+    private long elapsedMillis;
+
+    @Builder.Default
+    private List<SpecificationImportResult> files = new ArrayList<>();
+}
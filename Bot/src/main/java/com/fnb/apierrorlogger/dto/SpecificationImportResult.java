@@ -0,0 +1,25 @@
+package com.fnb.apierrorlogger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Response DTO with the outcome of importing one file of a specification archive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecificationImportResult {
+
+    private String fileName;
+    private String apiIdentifier;
+    private String status;
+    private UUID specificationId;
+    private String version;
+    private String failureMessage;
+}
@@ -0,0 +1,33 @@
+package com.fnb.apierrorlogger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO describing the specification warm-up run at startup.
+ * Specifications are listed slowest first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WarmUpReportResponse {
+
+    private String status;
+    private int parallelism;
+    private int total;
+    private int compiledCount;
+    private int failedCount;
+    private long elapsedMillis;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Builder.Default
+    private List<SpecificationCompileTime> specifications = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.fnb.apierrorlogger.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * Published when the content of a stored OpenAPI specification has been replaced.
+ * Listeners use it to drop anything derived from the previous content.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class SpecificationUpdatedEvent {
+
+    private final UUID specificationId;
+    private final String apiIdentifier;
+}
@@ -0,0 +1,16 @@
+package com.fnb.apierrorlogger.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a specification is updated or deleted between looking up its version and loading
+ * its content. The request may be retried later, against the new version.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class SpecificationChangedException extends RuntimeException {
+
+    public SpecificationChangedException(String message) {
+        super(message);
+    }
+}
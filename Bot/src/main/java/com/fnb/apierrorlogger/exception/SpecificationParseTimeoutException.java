@@ -0,0 +1,16 @@
+package com.fnb.apierrorlogger.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when parsing a specification, including time spent queued for a parser worker,
+ * takes longer than the configured timeout.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SpecificationParseTimeoutException extends RuntimeException {
+
+    public SpecificationParseTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fnb.apierrorlogger.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a specification cannot be parsed because every parser worker is busy
+ * and the parse queue is full. The request may be retried later.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SpecificationParserBusyException extends RuntimeException {
+
+    public SpecificationParserBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fnb.apierrorlogger.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an uploaded specification is larger than the configured upload limit,
+ * measured after decompression.
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class SpecificationTooLargeException extends RuntimeException {
+
+    public SpecificationTooLargeException(String message) {
+        super(message);
+    }
+}
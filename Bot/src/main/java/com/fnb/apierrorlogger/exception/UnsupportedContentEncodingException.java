@@ -0,0 +1,15 @@
+package com.fnb.apierrorlogger.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an uploaded specification is compressed with an encoding that cannot be decoded.
+ */
+@ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+public class UnsupportedContentEncodingException extends RuntimeException {
+
+    public UnsupportedContentEncodingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fnb.apierrorlogger.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression of stored text columns.
+ */
+public final class CompressedText {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private CompressedText() {
+    }
+
+    /**
+     * Compress the UTF-8 bytes of a string.
+     */
+    public static byte[] compress(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress content", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decompress text written by {@link #compress(String)}.
+     *
+     * @throws IllegalArgumentException if the bytes are not valid gzip
+     */
+    public static String decompress(byte[] compressed) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed), BUFFER_SIZE)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid compressed content: " + e.getMessage(), e);
+        }
+    }
+}
@@ -17,7 +17,8 @@ import java.util.UUID;
     @Index(name = "idx_api_endpoint", columnList = "api_endpoint"),
     @Index(name = "idx_timestamp", columnList = "timestamp"),
     @Index(name = "idx_environment", columnList = "environment"),
-    @Index(name = "idx_validation_status", columnList = "validation_status")
+    @Index(name = "idx_validation_status", columnList = "validation_status"),
+    @Index(name = "idx_openapi_spec_id", columnList = "openapi_spec_id, id")
 })
 @Data
 @NoArgsConstructor
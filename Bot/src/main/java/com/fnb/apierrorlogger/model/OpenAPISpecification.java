@@ -1,19 +1,20 @@
 package com.fnb.apierrorlogger.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "openapi_specifications", indexes = {
-    @Index(name = "idx_api_identifier", columnList = "api_identifier", unique = true)
+    @Index(name = "idx_api_identifier", columnList = "api_identifier", unique = true),
+    @Index(name = "idx_content_digest", columnList = "content_digest")
 })
 @Data
 @NoArgsConstructor
@@ -28,10 +29,43 @@ public class OpenAPISpecification {
     @Column(name = "api_identifier", nullable = false, unique = true)
     private String apiIdentifier;
     
-    @Column(name = "spec_content", columnDefinition = "jsonb", nullable = false)
-    @JdbcTypeCode(SqlTypes.JSON)
+    /**
+     * Specification content as uploaded (JSON or YAML), stored gzip-compressed.
+     * Set through {@link #setSpecContent(String)} so it stays in step with the text.
+     */
+    @Column(name = "spec_content_gz", columnDefinition = "bytea")
+    @Setter(AccessLevel.NONE)
+    private byte[] compressedContent;
+    
+    /**
+     * Specification content as uploaded, decompressed on first access.
+     */
+    @Transient
     private String specContent;
     
+    @Column(length = 500)
+    private String title;
+    
+    /**
+     * Number of paths in the specification.
+     */
+    @Column(name = "path_count")
+    private Integer pathCount;
+    
+    /**
+     * Parsed specification as compact JSON, written once at upload so it can be loaded without
+     * the OpenAPI parser. Null for specifications stored before it was introduced.
+     */
+    @Column(name = "resolved_content", columnDefinition = "TEXT")
+    private String resolvedContent;
+    
+    /**
+     * SHA-256 of the specification content, as hex. Identical content has the same digest,
+     * whichever API it belongs to.
+     */
+    @Column(name = "content_digest", length = 64)
+    private String contentDigest;
+    
     @Column(nullable = false)
     private String version;
     
@@ -44,8 +78,24 @@ public class OpenAPISpecification {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    public String getSpecContent() {
+        if (specContent == null && compressedContent != null) {
+            specContent = CompressedText.decompress(compressedContent);
+        }
+        return specContent;
+    }
+    
+    public void setSpecContent(String specContent) {
+        this.specContent = specContent;
+        this.compressedContent = specContent != null ? CompressedText.compress(specContent) : null;
+    }
+    
     @PrePersist
     protected void onCreate() {
+        // Instances built with the builder carry only the text
+        if (compressedContent == null && specContent != null) {
+            compressedContent = CompressedText.compress(specContent);
+        }
         uploadedAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * Represents a validation error with details about what failed.
+ * Errors raised because validation itself was cut short carry an {@code errorType};
+ * ordinary specification violations leave it null.
  */
 @Data
 @NoArgsConstructor
@@ -14,8 +16,19 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ValidationError {
     
+    /**
+     * Error type for validations stopped by a depth, size or time limit.
+     */
+    public static final String TYPE_BUDGET_EXCEEDED = "budget_exceeded";
+    
+    /**
+     * Error type for validations stopped after recording the most errors allowed.
+     */
+    public static final String TYPE_ERROR_LIMIT_REACHED = "error_limit_reached";
+    
     private String field;
     private String message;
     private String expectedType;
     private Object actualValue;
+    private String errorType;
 }
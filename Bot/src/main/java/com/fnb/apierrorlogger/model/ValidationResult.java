@@ -25,6 +25,23 @@ public class ValidationResult {
     @Builder.Default
     private List<String> warnings = new ArrayList<>();
     
+    /**
+     * Whether the logged response matches the specification's declared responses.
+     * Kept apart from {@code isValid}, which only describes the request.
+     */
+    @Builder.Default
+    private boolean responseValid = true;
+    
+    @Builder.Default
+    private List<ValidationError> responseErrors = new ArrayList<>();
+    
+    /**
+     * Whether validation could not run for a passing reason, such as the specification parser
+     * timing out, so the request is neither valid nor invalid yet and should be validated again.
+     */
+    @Builder.Default
+    private boolean retryable = false;
+    
     /**
      * Create a successful validation result.
      */
@@ -52,6 +69,14 @@ public class ValidationResult {
         this.isValid = false;
     }
     
+    /**
+     * Add a response validation error. Does not affect whether the request is valid.
+     */
+    public void addResponseError(ValidationError error) {
+        this.responseErrors.add(error);
+        this.responseValid = false;
+    }
+    
     /**
      * Add a warning.
      */
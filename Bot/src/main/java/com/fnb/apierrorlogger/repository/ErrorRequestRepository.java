@@ -1,13 +1,16 @@
 package com.fnb.apierrorlogger.repository;
 
 import com.fnb.apierrorlogger.model.ErrorRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -55,6 +58,28 @@ public interface ErrorRequestRepository extends JpaRepository<ErrorRequest, UUID
         @Param("environment") String environment
     );
     
+    // Last update time, for conditional requests that should not load the payloads;
+    // rows whose updated_at is NULL fall back to their creation time so they are still found
+    @Query("SELECT COALESCE(e.updatedAt, e.createdAt) FROM ErrorRequest e WHERE e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+    
     // Find by OpenAPI specification ID
     List<ErrorRequest> findByOpenApiSpecId(UUID openApiSpecId);
+    
+    // Keyset paging by OpenAPI specification ID: first chunk, then the chunk after a given ID
+    List<ErrorRequest> findByOpenApiSpecIdOrderByIdAsc(UUID openApiSpecId, Pageable pageable);
+    
+    List<ErrorRequest> findByOpenApiSpecIdAndIdGreaterThanOrderByIdAsc(UUID openApiSpecId, UUID afterId, Pageable pageable);
+    
+    long countByOpenApiSpecId(UUID openApiSpecId);
+    
+    // Keyset paging by validation status, for retrying deferred validations
+    List<ErrorRequest> findByValidationStatusOrderByIdAsc(String validationStatus, Pageable pageable);
+    
+    List<ErrorRequest> findByValidationStatusAndIdGreaterThanOrderByIdAsc(String validationStatus, UUID afterId, Pageable pageable);
+    
+    // Move a row out of one status only if it is still in it, so concurrent updaters do not both act on it
+    @Modifying
+    @Query("UPDATE ErrorRequest e SET e.validationStatus = :to WHERE e.id = :id AND e.validationStatus = :from")
+    int updateValidationStatus(@Param("id") UUID id, @Param("from") String from, @Param("to") String to);
 }
@@ -1,9 +1,16 @@
 package com.fnb.apierrorlogger.repository;
 
 import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +20,30 @@ public interface OpenAPISpecificationRepository extends JpaRepository<OpenAPISpe
     // Find by API identifier (Requirement 5.3)
     Optional<OpenAPISpecification> findByApiIdentifier(String apiIdentifier);
     
+    // Find several by API identifier, for bulk imports
+    List<OpenAPISpecification> findByApiIdentifierIn(Collection<String> apiIdentifiers);
+    
     // Check if API identifier exists
     boolean existsByApiIdentifier(String apiIdentifier);
+    
+    // Last update time, for conditional requests that should not load the content;
+    // rows whose updated_at is NULL fall back to their upload time so they are still found
+    @Query("SELECT COALESCE(s.updatedAt, s.uploadedAt) FROM OpenAPISpecification s WHERE s.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+    
+    // Last update time by API identifier, to check a cached lookup is still current
+    @Query("SELECT s.updatedAt FROM OpenAPISpecification s WHERE s.apiIdentifier = :apiIdentifier")
+    Optional<LocalDateTime> findUpdatedAtByApiIdentifier(@Param("apiIdentifier") String apiIdentifier);
+    
+    // Identity and version by API identifier, for lookups that should not load the content
+    @Query("SELECT new com.fnb.apierrorlogger.repository.SpecificationReference("
+            + "s.id, s.apiIdentifier, s.version, s.updatedAt, s.contentDigest) "
+            + "FROM OpenAPISpecification s WHERE s.apiIdentifier = :apiIdentifier")
+    Optional<SpecificationReference> findReferenceByApiIdentifier(@Param("apiIdentifier") String apiIdentifier);
+    
+    // List specifications without loading their content
+    Page<OpenAPISpecificationSummary> findAllProjectedBy(Pageable pageable);
+    
+    // Find a stored specification with identical content
+    Optional<OpenAPISpecification> findFirstByContentDigest(String contentDigest);
 }
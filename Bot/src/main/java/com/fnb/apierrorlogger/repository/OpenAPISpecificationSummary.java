@@ -0,0 +1,25 @@
+package com.fnb.apierrorlogger.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of an OpenAPI specification without its content, for listings.
+ * Queries returning it select only these columns.
+ */
+public interface OpenAPISpecificationSummary {
+
+    UUID getId();
+
+    String getApiIdentifier();
+
+    String getVersion();
+
+    String getTitle();
+
+    Integer getPathCount();
+
+    LocalDateTime getUploadedAt();
+
+    LocalDateTime getUpdatedAt();
+}
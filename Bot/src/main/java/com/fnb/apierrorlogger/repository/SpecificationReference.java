@@ -0,0 +1,12 @@
+package com.fnb.apierrorlogger.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Identity and version of a stored specification without its content, for lookups that only
+ * need to know which version to validate against. Queries returning it select only these columns.
+ */
+public record SpecificationReference(UUID id, String apiIdentifier, String version, LocalDateTime updatedAt,
+                                     String contentDigest) {
+}
@@ -0,0 +1,217 @@
+package com.fnb.apierrorlogger.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Copy-on-write registry of the recent compiled versions of each specification.
+ *
+ * Readers take the current snapshot with a single volatile read and then only touch immutable
+ * data, so validations never wait on a spec update and always see one consistent version.
+ * Writers build a new snapshot and publish it atomically. The newest {@code retained-versions}
+ * versions of each specification are kept, so an error request can be validated against the
+ * version that was active when it was logged.
+ *
+ * Registered versions hold their compiled form, so the registry is bounded by the same weight
+ * budget as the {@link SpecificationCache}; otherwise versions evicted from the cache would stay
+ * in memory here. Once over budget the oldest superseded versions are dropped first, then the
+ * current versions of the least recently updated specifications, which are compiled again from
+ * the cache on their next use.
+ */
+@Component
+@Slf4j
+public class CompiledSpecificationRegistry {
+
+    public static final int DEFAULT_RETAINED_VERSIONS = 5;
+
+    private final int retainedVersions;
+    private final long maxWeight;
+    private final Object writeLock = new Object();
+
+    /**
+     * Total weight of the registered versions. Guarded by {@code writeLock}.
+     */
+    private long totalWeight;
+
+    /**
+     * Versions of each specification, newest first. Replaced as a whole, never modified.
+     */
+    private volatile Map<UUID, List<SpecificationVersion>> snapshot = Map.of();
+
+    @Autowired
+    public CompiledSpecificationRegistry(
+            @Value("${app.validation.registry.retained-versions:5}") int retainedVersions,
+            @Value("${app.validation.spec-cache.max-weight:33554432}") long maxWeight) {
+        this.retainedVersions = Math.max(1, retainedVersions);
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * A registry bounded by the default specification cache budget.
+     */
+    public CompiledSpecificationRegistry(int retainedVersions) {
+        this(retainedVersions, SpecificationCache.DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Get the newest registered version of a specification.
+     *
+     * @return The version, or null if none is registered
+     */
+    public SpecificationVersion latest(UUID specificationId) {
+        List<SpecificationVersion> versions = snapshot.get(specificationId);
+        return versions != null ? versions.get(0) : null;
+    }
+
+    /**
+     * Get the registered version stored at a given time.
+     *
+     * @return The version, or null if it is not registered
+     */
+    public SpecificationVersion find(UUID specificationId, LocalDateTime updatedAt) {
+        List<SpecificationVersion> versions = snapshot.get(specificationId);
+        if (versions != null) {
+            for (SpecificationVersion version : versions) {
+                if (Objects.equals(version.getUpdatedAt(), updatedAt)) {
+                    return version;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the version that was active at a given time: the newest one stored at or before it.
+     * Times older than every retained version resolve to the oldest retained version.
+     *
+     * @param specificationId The specification ID
+     * @param timestamp The time to resolve, or null for the newest version
+     * @return The version, or null if none is registered
+     */
+    public SpecificationVersion resolve(UUID specificationId, LocalDateTime timestamp) {
+        List<SpecificationVersion> versions = snapshot.get(specificationId);
+        if (versions == null) {
+            return null;
+        }
+        if (timestamp == null) {
+            return versions.get(0);
+        }
+        for (SpecificationVersion version : versions) {
+            if (version.isActiveAt(timestamp)) {
+                return version;
+            }
+        }
+        return versions.get(versions.size() - 1);
+    }
+
+    /**
+     * Get the retained versions of a specification, newest first.
+     */
+    public List<SpecificationVersion> versions(UUID specificationId) {
+        return snapshot.getOrDefault(specificationId, List.of());
+    }
+
+    /**
+     * Register a compiled version. Re-registering a version replaces it; the oldest version
+     * is dropped once more than the retained number are registered, and versions of any
+     * specification may be dropped to keep the registry within its weight budget.
+     */
+    public void publish(SpecificationVersion version) {
+        UUID specificationId = version.getSpecificationId();
+        synchronized (writeLock) {
+            List<SpecificationVersion> versions = new ArrayList<>(retainedVersions + 1);
+            boolean added = false;
+            for (SpecificationVersion existing : snapshot.getOrDefault(specificationId, List.of())) {
+                if (Objects.equals(existing.getUpdatedAt(), version.getUpdatedAt())) {
+                    totalWeight -= weightOf(existing);
+                    continue;
+                }
+                if (!added && isNewer(version, existing)) {
+                    versions.add(version);
+                    added = true;
+                }
+                versions.add(existing);
+            }
+            if (!added) {
+                versions.add(version);
+            }
+            totalWeight += weightOf(version);
+            while (versions.size() > retainedVersions) {
+                totalWeight -= weightOf(versions.remove(versions.size() - 1));
+            }
+
+            Map<UUID, List<SpecificationVersion>> next = new HashMap<>(snapshot);
+            next.put(specificationId, versions);
+            evictOverBudget(next, version);
+            next.replaceAll((id, retained) -> List.copyOf(retained));
+            snapshot = Map.copyOf(next);
+        }
+        log.debug("Published version {} of specification {}", version.getUpdatedAt(), specificationId);
+    }
+
+    /**
+     * Drop versions until the registry is within its weight budget, never the one just published.
+     * Superseded versions go first, oldest first; then current versions, least recently updated first.
+     */
+    private void evictOverBudget(Map<UUID, List<SpecificationVersion>> versionsById, SpecificationVersion published) {
+        while (totalWeight > maxWeight) {
+            UUID victimId = null;
+            SpecificationVersion victim = null;
+            for (Map.Entry<UUID, List<SpecificationVersion>> entry : versionsById.entrySet()) {
+                List<SpecificationVersion> versions = entry.getValue();
+                SpecificationVersion oldest = versions.get(versions.size() - 1);
+                if (oldest == published) {
+                    continue;
+                }
+                if (victim == null || isEvictedBefore(oldest, versions.size() > 1,
+                        victim, versionsById.get(victimId).size() > 1)) {
+                    victimId = entry.getKey();
+                    victim = oldest;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+
+            List<SpecificationVersion> versions = new ArrayList<>(versionsById.get(victimId));
+            versions.remove(versions.size() - 1);
+            if (versions.isEmpty()) {
+                versionsById.remove(victimId);
+            } else {
+                versionsById.put(victimId, versions);
+            }
+            totalWeight -= weightOf(victim);
+            log.debug("Dropped version {} of specification {} to stay within the weight budget",
+                    victim.getUpdatedAt(), victimId);
+        }
+    }
+
+    private static boolean isEvictedBefore(SpecificationVersion candidate, boolean candidateSuperseded,
+                                           SpecificationVersion current, boolean currentSuperseded) {
+        if (candidateSuperseded != currentSuperseded) {
+            return candidateSuperseded;
+        }
+        return isNewer(current, candidate);
+    }
+
+    private static long weightOf(SpecificationVersion version) {
+        return version.getCompiled() != null ? version.getCompiled().getWeight() : 0;
+    }
+
+    private static boolean isNewer(SpecificationVersion candidate, SpecificationVersion existing) {
+        if (candidate.getUpdatedAt() == null || existing.getUpdatedAt() == null) {
+            return existing.getUpdatedAt() != null;
+        }
+        return candidate.getUpdatedAt().isAfter(existing.getUpdatedAt());
+    }
+}
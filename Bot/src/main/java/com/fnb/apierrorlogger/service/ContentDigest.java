@@ -0,0 +1,60 @@
+package com.fnb.apierrorlogger.service;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 digests of stored content, used to recognise identical specifications and payloads.
+ */
+public final class ContentDigest {
+
+    /**
+     * Size of the buffer content is encoded through, so a large string is never copied whole.
+     */
+    private static final int CHUNK_BYTES = 8192;
+
+    private ContentDigest() {
+    }
+
+    /**
+     * SHA-256 of the UTF-8 bytes of a string, as lower-case hex.
+     * Unpaired surrogates are encoded as {@code ?}, as {@link String#getBytes} does.
+     */
+    public static String sha256(String content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.wrap(content);
+        ByteBuffer bytes = ByteBuffer.allocate(CHUNK_BYTES);
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, true);
+            update(digest, bytes);
+        } while (result.isOverflow());
+        while (encoder.flush(bytes).isOverflow()) {
+            update(digest, bytes);
+        }
+        update(digest, bytes);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, ByteBuffer bytes) {
+        bytes.flip();
+        digest.update(bytes);
+        bytes.clear();
+    }
+}
@@ -6,9 +6,9 @@ import com.fnb.apierrorlogger.dto.ErrorRequestCreateRequest;
 import com.fnb.apierrorlogger.dto.ErrorRequestListResponse;
 import com.fnb.apierrorlogger.dto.ErrorRequestResponse;
 import com.fnb.apierrorlogger.model.ErrorRequest;
-import com.fnb.apierrorlogger.model.OpenAPISpecification;
 import com.fnb.apierrorlogger.model.ValidationResult;
 import com.fnb.apierrorlogger.repository.ErrorRequestRepository;
+import com.fnb.apierrorlogger.repository.SpecificationReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 public class ErrorService {
     
     private final ErrorRequestRepository errorRequestRepository;
+    private final SpecificationLookupCache specificationLookupCache;
     private final OpenAPIManager openAPIManager;
     private final ValidationEngine validationEngine;
     private final EmailService emailService;
@@ -61,15 +63,15 @@ public class ErrorService {
         validateRequiredFields(request);
         
         // Associate request with OpenAPI specification (Requirement 1.2)
-        OpenAPISpecification specification = null;
+        SpecificationReference specification = null;
         UUID specId = null;
         
         if (request.getApiIdentifier() != null && !request.getApiIdentifier().trim().isEmpty()) {
-            specification = openAPIManager.getSpecificationByApiIdentifier(request.getApiIdentifier())
+            specification = specificationLookupCache.get(request.getApiIdentifier())
                     .orElse(null);
             
             if (specification != null) {
-                specId = specification.getId();
+                specId = specification.id();
                 log.info("Associated error request with OpenAPI specification: {}", request.getApiIdentifier());
             } else {
                 log.warn("OpenAPI specification not found for API identifier: {}", request.getApiIdentifier());
@@ -95,10 +97,14 @@ public class ErrorService {
         log.info("Saved error request with ID: {}", errorRequest.getId());
         
         // Trigger validation engine (Requirement 2.5)
-        ValidationResult validationResult = validationEngine.validateRequest(errorRequest, specification);
+        // The specification's content is only loaded if its compiled form is not cached
+        ValidationResult validationResult = validate(errorRequest, specification);
         
         // Update error request with validation status and details
-        errorRequest.setValidationStatus(validationResult.isValid() ? "passed" : "failed");
+        // Requests whose specification could not be parsed in time are left pending; the
+        // PendingValidationRetry validates them again and sends the email if they pass
+        errorRequest.setValidationStatus(validationResult.isRetryable() ? "pending"
+                : validationResult.isValid() ? "passed" : "failed");
         
         try {
             String validationDetailsJson = objectMapper.writeValueAsString(validationResult);
@@ -177,6 +183,26 @@ public class ErrorService {
         return ErrorRequestResponse.fromEntity(errorRequest);
     }
     
+    /**
+     * Get when an error request was last updated, without loading its payloads.
+     * 
+     * @param id The error request ID
+     * @return Optional containing the update time, or the creation time when none was recorded,
+     *         if the error request exists
+     */
+    public Optional<LocalDateTime> getErrorRequestUpdatedAt(UUID id) {
+        return errorRequestRepository.findUpdatedAtById(id);
+    }
+    
+    /**
+     * Validate an error request against the specification a reference names, loading the stored
+     * specification by ID only if the engine needs its content.
+     */
+    private ValidationResult validate(ErrorRequest errorRequest, SpecificationReference specification) {
+        return validationEngine.validateRequest(errorRequest, specification,
+                () -> openAPIManager.getSpecification(specification.id()).orElse(null));
+    }
+    
     /**
      * Validate that all required fields are present in the request.
      * 
@@ -0,0 +1,21 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A specification stored by a bulk import, and whether the import created or changed it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImportedSpecification {
+
+    private final OpenAPISpecification specification;
+    private final boolean created;
+
+    /**
+     * False when the stored content was already identical and nothing was written.
+     */
+    private final boolean changed;
+}
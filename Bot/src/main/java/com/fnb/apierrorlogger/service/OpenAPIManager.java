@@ -1,18 +1,32 @@
 package com.fnb.apierrorlogger.service;
 
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.exception.SpecificationParseTimeoutException;
+import com.fnb.apierrorlogger.exception.SpecificationParserBusyException;
 import com.fnb.apierrorlogger.model.OpenAPISpecification;
 import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
-import io.swagger.v3.parser.OpenAPIV3Parser;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationSummary;
+import com.fnb.apierrorlogger.repository.SpecificationReference;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
 /**
  * Service for managing OpenAPI specifications.
@@ -21,12 +35,21 @@ import java.util.UUID;
  * Requirements: 5.1, 5.2, 5.3, 5.5, 5.6
  */
 @Service
-@RequiredArgsConstructor
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
 @Slf4j
 public class OpenAPIManager {
 
     private final OpenAPISpecificationRepository repository;
-    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpecificationParser specificationParser;
+
+    /**
+     * Create a manager that does not publish update events and parses on its own worker pool,
+     * for use outside the Spring context.
+     */
+    public OpenAPIManager(OpenAPISpecificationRepository repository) {
+        this(repository, event -> { }, SpecificationParser.defaults());
+    }
 
     /**
      * Upload and validate an OpenAPI specification.
@@ -37,6 +60,8 @@ public class OpenAPIManager {
      * @param uploadedBy The user uploading the specification
      * @return The saved OpenAPISpecification
      * @throws IllegalArgumentException if the specification is invalid
+     * @throws SpecificationParserBusyException if the parser pool is saturated
+     * @throws SpecificationParseTimeoutException if parsing takes longer than the configured timeout
      * 
      * Requirements: 5.1, 5.2, 5.3
      */
@@ -44,11 +69,7 @@ public class OpenAPIManager {
     public OpenAPISpecification uploadSpecification(String apiIdentifier, String specContent, String uploadedBy) {
         log.info("Uploading OpenAPI specification for API: {}", apiIdentifier);
         
-        // Validate the specification format
-        validateOpenAPIFormat(specContent);
-        
-        // Parse to extract version
-        String version = extractVersion(specContent);
+        requireContent(specContent);
         
         // Check if specification already exists
         if (repository.existsByApiIdentifier(apiIdentifier)) {
@@ -58,10 +79,10 @@ public class OpenAPIManager {
         // Create and save the specification
         OpenAPISpecification specification = OpenAPISpecification.builder()
                 .apiIdentifier(apiIdentifier)
-                .specContent(specContent)
-                .version(version)
                 .uploadedBy(uploadedBy)
                 .build();
+        applyContent(specification, parseSpecification(specContent, ContentDigest.sha256(specContent),
+                specificationParser::parse));
         
         OpenAPISpecification saved = repository.save(specification);
         log.info("Successfully uploaded OpenAPI specification with ID: {}", saved.getId());
@@ -82,6 +103,37 @@ public class OpenAPIManager {
         return repository.findById(id);
     }
 
+    /**
+     * Get when a specification was last updated, without loading its content.
+     * 
+     * @param id The specification ID
+     * @return Optional containing the update time, or the upload time when none was recorded,
+     *         if the specification exists
+     */
+    public Optional<LocalDateTime> getSpecificationUpdatedAt(UUID id) {
+        return repository.findUpdatedAtById(id);
+    }
+
+    /**
+     * Get when the specification of an API was last updated, without loading its content.
+     * 
+     * @param apiIdentifier The API identifier
+     * @return Optional containing the update time if the specification exists
+     */
+    public Optional<LocalDateTime> getSpecificationUpdatedAtByApiIdentifier(String apiIdentifier) {
+        return repository.findUpdatedAtByApiIdentifier(apiIdentifier);
+    }
+
+    /**
+     * Get the identity and version of the specification of an API, without loading its content.
+     * 
+     * @param apiIdentifier The API identifier
+     * @return Optional containing the reference if the specification exists
+     */
+    public Optional<SpecificationReference> getSpecificationReferenceByApiIdentifier(String apiIdentifier) {
+        return repository.findReferenceByApiIdentifier(apiIdentifier);
+    }
+
     /**
      * Get a specific OpenAPI specification by API identifier.
      * 
@@ -107,14 +159,31 @@ public class OpenAPIManager {
         return repository.findAll();
     }
 
+    /**
+     * Get one page of OpenAPI specifications without their content.
+     * 
+     * @param pageable The page to get
+     * @return The page of specification summaries
+     * 
+     * Requirement: 5.6
+     */
+    public Page<OpenAPISpecificationSummary> getSpecificationSummaries(Pageable pageable) {
+        log.debug("Retrieving OpenAPI specification summaries: {}", pageable);
+        return repository.findAllProjectedBy(pageable);
+    }
+
     /**
      * Update an existing OpenAPI specification.
+     * Content identical to what is already stored is not parsed or written again, and does not
+     * invalidate anything derived from the specification; the stored specification is returned as is.
      * 
      * @param id The specification ID to update
      * @param specContent The new specification content
      * @param updatedBy The user updating the specification
      * @return The updated specification
      * @throws IllegalArgumentException if the specification is invalid or not found
+     * @throws SpecificationParserBusyException if the parser pool is saturated
+     * @throws SpecificationParseTimeoutException if parsing takes longer than the configured timeout
      * 
      * Requirement: 5.5
      */
@@ -122,46 +191,158 @@ public class OpenAPIManager {
     public OpenAPISpecification updateSpecification(UUID id, String specContent, String updatedBy) {
         log.info("Updating OpenAPI specification with ID: {}", id);
         
-        // Validate the new specification format
-        validateOpenAPIFormat(specContent);
+        requireContent(specContent);
         
         // Find existing specification
         OpenAPISpecification existing = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("OpenAPI specification with ID '" + id + "' not found"));
         
-        // Extract version from new content
-        String version = extractVersion(specContent);
+        // Skip re-pushes of unchanged content
+        String contentDigest = ContentDigest.sha256(specContent);
+        if (contentDigest.equals(existing.getContentDigest())) {
+            log.info("OpenAPI specification with ID {} is unchanged, skipping update", id);
+            return existing;
+        }
         
         // Update fields
-        existing.setSpecContent(specContent);
-        existing.setVersion(version);
+        applyContent(existing, parseSpecification(specContent, contentDigest, specificationParser::parse));
         existing.setUploadedBy(updatedBy);
         
         OpenAPISpecification updated = repository.save(existing);
         log.info("Successfully updated OpenAPI specification with ID: {}", id);
         
+        // Let caches and derived state drop the previous content
+        eventPublisher.publishEvent(new SpecificationUpdatedEvent(updated.getId(), updated.getApiIdentifier()));
+        
         return updated;
     }
 
     /**
-     * Validate OpenAPI specification format using swagger-parser.
-     * Handles both JSON and YAML formats.
+     * Store a set of parsed specifications in one transaction, creating those whose API identifier
+     * is new and updating the others. Specifications whose content is unchanged are not written.
      * 
-     * @param specContent The specification content to validate
-     * @throws IllegalArgumentException if the specification is invalid
+     * @param specifications Parsed specifications by API identifier
+     * @param uploadedBy The user importing the specifications
+     * @return What was stored for each API identifier, in the order given
      * 
-     * Requirements: 5.1, 5.2, 5.4
+     * Requirements: 5.1, 5.5
+     */
+    @Transactional
+    public List<ImportedSpecification> importSpecifications(Map<String, ParsedSpecification> specifications,
+                                                            String uploadedBy) {
+        log.info("Importing {} OpenAPI specifications", specifications.size());
+        if (specifications.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<String, OpenAPISpecification> existing = new HashMap<>();
+        for (OpenAPISpecification specification : repository.findByApiIdentifierIn(specifications.keySet())) {
+            existing.put(specification.getApiIdentifier(), specification);
+        }
+        
+        List<ImportedSpecification> imported = new ArrayList<>(specifications.size());
+        List<OpenAPISpecification> toSave = new ArrayList<>();
+        for (Map.Entry<String, ParsedSpecification> entry : specifications.entrySet()) {
+            OpenAPISpecification specification = existing.get(entry.getKey());
+            boolean created = specification == null;
+            if (created) {
+                specification = OpenAPISpecification.builder().apiIdentifier(entry.getKey()).build();
+            } else if (entry.getValue().getContentDigest().equals(specification.getContentDigest())) {
+                imported.add(new ImportedSpecification(specification, false, false));
+                continue;
+            }
+            applyContent(specification, entry.getValue());
+            specification.setUploadedBy(uploadedBy);
+            toSave.add(specification);
+            imported.add(new ImportedSpecification(specification, created, true));
+        }
+        
+        // Saved together so inserts and updates go out in JDBC batches
+        repository.saveAll(toSave);
+        
+        for (ImportedSpecification result : imported) {
+            if (result.isChanged() && !result.isCreated()) {
+                OpenAPISpecification updated = result.getSpecification();
+                eventPublisher.publishEvent(new SpecificationUpdatedEvent(updated.getId(), updated.getApiIdentifier()));
+            }
+        }
+        log.info("Imported {} OpenAPI specifications, {} changed", imported.size(), toSave.size());
+        
+        return imported;
+    }
+
+    /**
+     * Validate specification content and derive what is stored alongside it, without storing anything.
+     * Content already stored for another API is not parsed again; its metadata and resolved
+     * form are reused instead. Safe to call from several threads at once.
+     * 
+     * Parses on the calling thread rather than the shared parser pool, so callers such as bulk
+     * import bound their own concurrency and leave the pool to interactive uploads.
+     * 
+     * @param specContent The specification content (JSON or YAML)
+     * @return The parsed specification
+     * @throws IllegalArgumentException if the specification is invalid
+     */
+    public ParsedSpecification parseSpecification(String specContent) {
+        requireContent(specContent);
+        return parseSpecification(specContent, ContentDigest.sha256(specContent),
+                specificationParser::parseOnCallingThread);
+    }
+
+    private ParsedSpecification parseSpecification(String specContent, String contentDigest,
+                                                   BiFunction<String, ParseOptions, SwaggerParseResult> parser) {
+        Optional<OpenAPISpecification> identical = repository.findFirstByContentDigest(contentDigest)
+                .filter(stored -> stored.getResolvedContent() != null);
+        if (identical.isPresent()) {
+            log.info("Reusing parsed form of identical OpenAPI specification {}", identical.get().getApiIdentifier());
+            OpenAPISpecification stored = identical.get();
+            return new ParsedSpecification(specContent, contentDigest, stored.getVersion(), stored.getTitle(),
+                    stored.getPathCount(), stored.getResolvedContent());
+        }
+        
+        // Parse and validate the specification format once, then derive everything from the model
+        OpenAPI openAPI = parseOpenAPI(specContent, parser);
+        return new ParsedSpecification(specContent, contentDigest, extractVersion(openAPI),
+                openAPI.getInfo() != null ? openAPI.getInfo().getTitle() : null,
+                openAPI.getPaths() != null ? openAPI.getPaths().size() : 0,
+                resolvedContent(openAPI));
+    }
+
+    /**
+     * Set the content of a specification together with everything derived from it.
      */
-    private void validateOpenAPIFormat(String specContent) {
+    private void applyContent(OpenAPISpecification specification, ParsedSpecification parsed) {
+        specification.setSpecContent(parsed.getSpecContent());
+        specification.setContentDigest(parsed.getContentDigest());
+        specification.setVersion(parsed.getVersion());
+        specification.setTitle(parsed.getTitle());
+        specification.setPathCount(parsed.getPathCount());
+        specification.setResolvedContent(parsed.getResolvedContent());
+    }
+
+    private static void requireContent(String specContent) {
         if (specContent == null || specContent.trim().isEmpty()) {
             throw new IllegalArgumentException("Specification content cannot be empty");
         }
-        
+    }
+
+    /**
+     * Parse and validate OpenAPI specification format using swagger-parser.
+     * Handles both JSON and YAML formats. References are resolved, and local references kept
+     * as references, so the model can be stored compactly.
+     * 
+     * @param specContent The specification content to validate
+     * @param parser Where the parse runs: the parser pool or the calling thread
+     * @return The parsed specification
+     * @throws IllegalArgumentException if the specification is invalid
+     * 
+     * Requirements: 5.1, 5.2, 5.4
+     */
+    private OpenAPI parseOpenAPI(String specContent, BiFunction<String, ParseOptions, SwaggerParseResult> parser) {
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
-        options.setResolveFully(true);
         
-        SwaggerParseResult result = parser.readContents(specContent, null, options);
+        SwaggerParseResult result = parser.apply(specContent, options);
         
         // Check for parsing errors
         if (result.getMessages() != null && !result.getMessages().isEmpty()) {
@@ -176,24 +357,33 @@ public class OpenAPIManager {
         }
         
         log.debug("OpenAPI specification validation successful");
+        return result.getOpenAPI();
     }
 
     /**
-     * Extract version from OpenAPI specification.
+     * Extract version from a parsed OpenAPI specification.
      * 
-     * @param specContent The specification content
+     * @param openAPI The parsed specification
      * @return The version string, or "unknown" if not found
      */
-    private String extractVersion(String specContent) {
-        try {
-            SwaggerParseResult result = parser.readContents(specContent, null, null);
-            if (result.getOpenAPI() != null && result.getOpenAPI().getInfo() != null) {
-                String version = result.getOpenAPI().getInfo().getVersion();
-                return version != null ? version : "unknown";
-            }
-        } catch (Exception e) {
-            log.warn("Failed to extract version from specification: {}", e.getMessage());
+    private String extractVersion(OpenAPI openAPI) {
+        if (openAPI.getInfo() != null && openAPI.getInfo().getVersion() != null) {
+            return openAPI.getInfo().getVersion();
         }
         return "unknown";
     }
+
+    /**
+     * Write the compact resolved form of a parsed specification.
+     * 
+     * @return The resolved form, or null if it cannot be written, in which case validators parse the original text
+     */
+    private String resolvedContent(OpenAPI openAPI) {
+        try {
+            return ResolvedSpecificationCodec.write(openAPI);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write resolved form of specification: {}", e.getMessage());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.fnb.apierrorlogger.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Specification content that has been validated, together with everything derived from it
+ * that is stored alongside the content.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ParsedSpecification {
+
+    private final String specContent;
+    private final String contentDigest;
+    private final String version;
+    private final String title;
+    private final Integer pathCount;
+
+    /**
+     * Compact resolved form, or null if it could not be written.
+     */
+    private final String resolvedContent;
+}
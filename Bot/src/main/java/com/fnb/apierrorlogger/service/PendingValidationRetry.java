@@ -0,0 +1,151 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.repository.ErrorRequestRepository;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Validates again the error requests left pending because their specification could not be
+ * parsed in time, and sends the email for those that now pass, as logging them would have.
+ *
+ * Pending rows are read in keyset-paged chunks ordered by ID, each chunk in its own transaction.
+ * A row is moved out of pending with a conditional update before its email is sent, so when
+ * several nodes retry the same row only one of them sends it. Rows whose validation is deferred
+ * again stay pending for the next run.
+ */
+@Service
+@Slf4j
+public class PendingValidationRetry {
+
+    static final String STATUS_PENDING = "pending";
+
+    private final ErrorRequestRepository errorRequestRepository;
+    private final OpenAPISpecificationRepository specificationRepository;
+    private final ValidationEngine validationEngine;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PendingValidationRetry(ErrorRequestRepository errorRequestRepository,
+                                  OpenAPISpecificationRepository specificationRepository,
+                                  ValidationEngine validationEngine,
+                                  EmailService emailService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.validation.pending-retry.chunk-size:100}") int chunkSize,
+                                  @Value("${app.validation.pending-retry.enabled:true}") boolean enabled) {
+        this.errorRequestRepository = errorRequestRepository;
+        this.specificationRepository = specificationRepository;
+        this.validationEngine = validationEngine;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(initialDelayString = "${app.validation.pending-retry.interval:PT1M}",
+            fixedDelayString = "${app.validation.pending-retry.interval:PT1M}")
+    public void retryPending() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int resolved = retry();
+            if (resolved > 0) {
+                log.info("Resolved {} pending validations", resolved);
+            }
+        } catch (RuntimeException e) {
+            log.error("Retrying pending validations failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Validate every pending row once.
+     *
+     * @return The number of rows that are no longer pending
+     */
+    int retry() {
+        int resolved = 0;
+        UUID lastId = null;
+        while (true) {
+            UUID afterId = lastId;
+            ChunkOutcome outcome = transactionTemplate.execute(status -> processChunk(afterId));
+            if (outcome == null) {
+                return resolved;
+            }
+            resolved += outcome.resolved();
+            lastId = outcome.lastId();
+        }
+    }
+
+    /**
+     * @return The outcome of the chunk, or null if there were no pending rows left
+     */
+    private ChunkOutcome processChunk(UUID afterId) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        List<ErrorRequest> rows = afterId == null
+                ? errorRequestRepository.findByValidationStatusOrderByIdAsc(STATUS_PENDING, chunk)
+                : errorRequestRepository.findByValidationStatusAndIdGreaterThanOrderByIdAsc(STATUS_PENDING, afterId, chunk);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Map<UUID, Optional<OpenAPISpecification>> specifications = new HashMap<>();
+        int resolved = 0;
+        for (ErrorRequest row : rows) {
+            OpenAPISpecification specification = row.getOpenApiSpecId() == null ? null
+                    : specifications.computeIfAbsent(row.getOpenApiSpecId(), specificationRepository::findById)
+                            .orElse(null);
+            ValidationResult result = validationEngine.validateRequest(row, specification);
+            if (result.isRetryable()) {
+                continue;
+            }
+
+            String status = result.isValid() ? "passed" : "failed";
+            if (errorRequestRepository.updateValidationStatus(row.getId(), STATUS_PENDING, status) == 0) {
+                // Resolved elsewhere in the meantime
+                continue;
+            }
+            resolved++;
+            row.setValidationStatus(status);
+            row.setValidationDetails(serialize(result));
+            if (result.isValid() && !Boolean.TRUE.equals(row.getEmailSent())) {
+                boolean emailSent = emailService.sendErrorNotification(row, result);
+                row.setEmailSent(emailSent);
+                row.setEmailDeliveryStatus(emailSent ? "sent" : "failed");
+            }
+        }
+        return new ChunkOutcome(rows.get(rows.size() - 1).getId(), resolved);
+    }
+
+    private String serialize(ValidationResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize validation details", e);
+            return "{\"error\": \"Failed to serialize validation details\"}";
+        }
+    }
+
+    private record ChunkOutcome(UUID lastId, int resolved) {
+    }
+}
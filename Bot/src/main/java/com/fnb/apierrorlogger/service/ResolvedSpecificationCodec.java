@@ -0,0 +1,58 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+
+/**
+ * Reads and writes the resolved form of a specification stored next to its original text.
+ *
+ * The resolved form is the parsed model written back out as compact JSON, with external
+ * references already resolved. Loading it is a plain JSON read into the model, so validators
+ * and restarted nodes do not have to run the OpenAPI parser over the original YAML or JSON.
+ */
+public final class ResolvedSpecificationCodec {
+
+    private ResolvedSpecificationCodec() {
+    }
+
+    /**
+     * Write a parsed specification in its compact resolved form.
+     *
+     * @throws IllegalStateException if the model cannot be serialized
+     */
+    public static String write(OpenAPI openAPI) {
+        try {
+            return mapper(openAPI.getSpecVersion() == SpecVersion.V31).writeValueAsString(openAPI);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize resolved specification", e);
+        }
+    }
+
+    /**
+     * Read a specification back from its compact resolved form.
+     *
+     * @throws IllegalArgumentException if the content is not a resolved specification
+     */
+    public static OpenAPI read(String resolvedContent) {
+        try {
+            JsonNode tree = Json.mapper().readTree(resolvedContent);
+            boolean openAPI31 = tree.path("openapi").asText().startsWith("3.1");
+            OpenAPI openAPI = mapper(openAPI31).treeToValue(tree, OpenAPI.class);
+            if (openAPI31) {
+                openAPI.specVersion(SpecVersion.V31);
+            }
+            return openAPI;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid resolved specification: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static ObjectMapper mapper(boolean openAPI31) {
+        return openAPI31 ? Json31.mapper() : Json.mapper();
+    }
+}
@@ -0,0 +1,86 @@
+package com.fnb.apierrorlogger.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of re-validating the error requests linked to one specification.
+ * Counters are updated by the worker and may be read at any time from other threads.
+ */
+@Getter
+public class RevalidationJob {
+
+    public static final String STATUS_RUNNING = "running";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_CANCELLED = "cancelled";
+    public static final String STATUS_FAILED = "failed";
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID specificationId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+
+    private volatile long totalRows;
+    private volatile String status = STATUS_RUNNING;
+    private volatile String failureMessage;
+    private volatile LocalDateTime finishedAt;
+    private volatile long elapsedNanos = -1;
+    private volatile boolean cancelRequested;
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong passedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    /** Rows left pending because their validation was cut short; retried later, not failed. */
+    private final AtomicLong pendingRows = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+
+    public RevalidationJob(UUID specificationId) {
+        this.specificationId = specificationId;
+    }
+
+    /**
+     * Ask the job to stop after the chunk it is working on.
+     */
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isRunning() {
+        return STATUS_RUNNING.equals(status);
+    }
+
+    /**
+     * Rows processed per second since the job started.
+     */
+    public double getRowsPerSecond() {
+        long nanos = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+        return nanos > 0 ? processedRows.get() * 1_000_000_000.0 / nanos : 0.0;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos);
+    }
+
+    void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    void recordChunk(long passed, long failed, long pending) {
+        passedRows.addAndGet(passed);
+        failedRows.addAndGet(failed);
+        pendingRows.addAndGet(pending);
+        processedRows.addAndGet(passed + failed + pending);
+        chunks.incrementAndGet();
+    }
+
+    void finish(String status, String failureMessage) {
+        this.failureMessage = failureMessage;
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,222 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.repository.ErrorRequestRepository;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Re-validates stored error requests when the specification they were validated against changes.
+ *
+ * Rows are read in keyset-paged chunks ordered by ID, so memory use is bounded by the chunk size
+ * however many rows a specification has. Each chunk is validated in parallel and its results are
+ * written back in the same transaction, relying on JDBC batching for the updates.
+ * Emails are not re-sent for requests whose status changes, but a request that was pending, and
+ * so never had one, gets its email once it passes.
+ */
+@Service
+@Slf4j
+public class RevalidationService {
+
+    private final ErrorRequestRepository errorRequestRepository;
+    private final OpenAPISpecificationRepository specificationRepository;
+    private final ValidationEngine validationEngine;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Latest job for each specification.
+     */
+    private final Map<UUID, RevalidationJob> jobs = new ConcurrentHashMap<>();
+
+    public RevalidationService(ErrorRequestRepository errorRequestRepository,
+                               OpenAPISpecificationRepository specificationRepository,
+                               ValidationEngine validationEngine,
+                               EmailService emailService,
+                               PlatformTransactionManager transactionManager,
+                               TaskExecutor taskExecutor,
+                               @Value("${app.validation.revalidation.chunk-size:500}") int chunkSize,
+                               @Value("${app.validation.revalidation.enabled:true}") boolean enabled) {
+        this.errorRequestRepository = errorRequestRepository;
+        this.specificationRepository = specificationRepository;
+        this.validationEngine = validationEngine;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start re-validating once an updated specification has been committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpecificationUpdated(SpecificationUpdatedEvent event) {
+        if (!enabled) {
+            log.debug("Re-validation disabled, ignoring update of specification {}", event.getSpecificationId());
+            return;
+        }
+        startRevalidation(event.getSpecificationId());
+    }
+
+    /**
+     * Start re-validating every error request linked to a specification.
+     * A job already running for the specification is cancelled first, since its results would be stale.
+     *
+     * @param specificationId The specification whose error requests should be re-validated
+     * @return The new job
+     */
+    public RevalidationJob startRevalidation(UUID specificationId) {
+        RevalidationJob job = new RevalidationJob(specificationId);
+        RevalidationJob previous = jobs.put(specificationId, job);
+        if (previous != null && previous.isRunning()) {
+            log.info("Cancelling re-validation job {} superseded by job {}", previous.getJobId(), job.getJobId());
+            previous.cancel();
+        }
+
+        log.info("Starting re-validation job {} for specification {}", job.getJobId(), specificationId);
+        taskExecutor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Cancel the running job for a specification.
+     *
+     * @return The job, if one exists for the specification
+     */
+    public Optional<RevalidationJob> cancel(UUID specificationId) {
+        RevalidationJob job = jobs.get(specificationId);
+        if (job != null && job.isRunning()) {
+            log.info("Cancellation requested for re-validation job {}", job.getJobId());
+            job.cancel();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    public Optional<RevalidationJob> getJob(UUID specificationId) {
+        return Optional.ofNullable(jobs.get(specificationId));
+    }
+
+    public List<RevalidationJob> getJobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Process the job chunk by chunk until every row is done or the job is cancelled.
+     */
+    void run(RevalidationJob job) {
+        UUID specificationId = job.getSpecificationId();
+        try {
+            OpenAPISpecification specification = specificationRepository.findById(specificationId).orElse(null);
+            if (specification == null) {
+                job.finish(RevalidationJob.STATUS_FAILED, "Specification not found");
+                return;
+            }
+            job.setTotalRows(errorRequestRepository.countByOpenApiSpecId(specificationId));
+
+            UUID lastId = null;
+            while (!job.isCancelRequested()) {
+                UUID afterId = lastId;
+                lastId = transactionTemplate.execute(status -> processChunk(job, specification, afterId));
+                if (lastId == null) {
+                    break;
+                }
+            }
+
+            String status = job.isCancelRequested() ? RevalidationJob.STATUS_CANCELLED : RevalidationJob.STATUS_COMPLETED;
+            job.finish(status, null);
+            log.info("Re-validation job {} {}: {} rows ({} passed, {} failed, {} pending) in {} ms, {} rows/s",
+                    job.getJobId(), status, job.getProcessedRows().get(), job.getPassedRows().get(),
+                    job.getFailedRows().get(), job.getPendingRows().get(), job.getElapsed().toMillis(), String.format("%.1f", job.getRowsPerSecond()));
+
+        } catch (RuntimeException e) {
+            log.error("Re-validation job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            job.finish(RevalidationJob.STATUS_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Re-validate one chunk of rows and update them in place.
+     *
+     * @return The ID of the last row in the chunk, or null if there were no rows left
+     */
+    private UUID processChunk(RevalidationJob job, OpenAPISpecification specification, UUID afterId) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        List<ErrorRequest> rows = afterId == null
+                ? errorRequestRepository.findByOpenApiSpecIdOrderByIdAsc(specification.getId(), chunk)
+                : errorRequestRepository.findByOpenApiSpecIdAndIdGreaterThanOrderByIdAsc(specification.getId(), afterId, chunk);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        List<ValidationResult> results = validationEngine.validateBatch(rows, specification);
+
+        long passed = 0;
+        long pending = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            ErrorRequest row = rows.get(i);
+            ValidationResult result = results.get(i);
+            String status = result.isRetryable() ? "pending" : result.isValid() ? "passed" : "failed";
+            boolean firstResult = isFirstResult(row, status);
+            row.setValidationStatus(status);
+            row.setValidationDetails(serialize(result));
+            if (firstResult && result.isValid() && !Boolean.TRUE.equals(row.getEmailSent())) {
+                boolean emailSent = emailService.sendErrorNotification(row, result);
+                row.setEmailSent(emailSent);
+                row.setEmailDeliveryStatus(emailSent ? "sent" : "failed");
+            }
+            if ("pending".equals(status)) {
+                pending++;
+            } else if ("passed".equals(status)) {
+                passed++;
+            }
+        }
+
+        job.recordChunk(passed, rows.size() - passed - pending, pending);
+        return rows.get(rows.size() - 1).getId();
+    }
+
+    /**
+     * Whether a row leaves pending with this status, claimed with a conditional update so that
+     * the {@link PendingValidationRetry} does not also act on it.
+     */
+    private boolean isFirstResult(ErrorRequest row, String status) {
+        return PendingValidationRetry.STATUS_PENDING.equals(row.getValidationStatus())
+                && !PendingValidationRetry.STATUS_PENDING.equals(status)
+                && errorRequestRepository.updateValidationStatus(
+                        row.getId(), PendingValidationRetry.STATUS_PENDING, status) == 1;
+    }
+
+    private String serialize(ValidationResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize validation details", e);
+            return "{\"error\": \"Failed to serialize validation details\"}";
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Yaml;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, size-weighted LRU cache of parsed component documents, the shared files that
+ * specification bundles reference.
+ *
+ * Documents are keyed by content digest, so a component library uploaded with many bundles is
+ * parsed once, whichever bundle or file name it arrived under. This only saves work at upload
+ * time: each bundled specification gets its own copy of the components it uses, and is stored,
+ * parsed and compiled on its own, so specifications sharing a library do not share heap once
+ * they are stored. The cache itself is only read while bundling, and its weight budget is heap
+ * held for uploads alone. Cached trees are shared and must not be modified.
+ */
+@Component
+@Slf4j
+public class SharedComponentCache {
+
+    /**
+     * Default weight budget, expressed in characters of document content.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 16L * 1024 * 1024;
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, CachedDocument> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SharedComponentCache(@Value("${app.openapi.bundle.component-cache.max-weight:16777216}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Get the parsed form of a component document, parsing it on a miss.
+     *
+     * @param content The document content (JSON or YAML)
+     * @return The parsed document, shared with other callers
+     * @throws IllegalArgumentException if the content is not valid JSON or YAML
+     */
+    public JsonNode get(String content) {
+        String digest = ContentDigest.sha256(content);
+        synchronized (entries) {
+            CachedDocument cached = entries.get(digest);
+            if (cached != null) {
+                hits.increment();
+                return cached.tree();
+            }
+        }
+
+        misses.increment();
+        JsonNode tree = parse(content);
+        put(digest, new CachedDocument(tree, content.length()));
+        return tree;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private static JsonNode parse(String content) {
+        try {
+            // YAML is a superset of JSON, so one mapper reads both
+            JsonNode tree = Yaml.mapper().readTree(content);
+            if (tree == null || !tree.isObject()) {
+                throw new IllegalArgumentException("Component document is not a JSON or YAML object");
+            }
+            return tree;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid component document: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void put(String digest, CachedDocument document) {
+        if (document.weight() > maxWeight) {
+            log.warn("Component document {} is too large to cache (weight {}, max {})",
+                    digest, document.weight(), maxWeight);
+            return;
+        }
+
+        synchronized (entries) {
+            CachedDocument previous = entries.put(digest, document);
+            if (previous != null) {
+                totalWeight -= previous.weight();
+            }
+            totalWeight += document.weight();
+
+            // Access-ordered map: the first entry is the least recently used
+            Iterator<Map.Entry<String, CachedDocument>> iterator = entries.entrySet().iterator();
+            while (totalWeight > maxWeight && iterator.hasNext()) {
+                Map.Entry<String, CachedDocument> eldest = iterator.next();
+                if (eldest.getKey().equals(digest)) {
+                    continue;
+                }
+                totalWeight -= eldest.getValue().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    private record CachedDocument(JsonNode tree, long weight) {
+    }
+}
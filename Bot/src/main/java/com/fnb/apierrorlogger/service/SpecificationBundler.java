@@ -0,0 +1,343 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fnb.apierrorlogger.exception.SpecificationTooLargeException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Turns a specification bundle, a root document plus the files it references, into a single
+ * self-contained document that is stored and validated like any other specification.
+ *
+ * A reference to a component in another file, such as {@code common/errors.yaml#/components/schemas/Error},
+ * is replaced by a reference to a copy of that component added to the root document's components,
+ * renamed with a numeric suffix if the name is already taken. Any other reference to
+ * another file is replaced by the referenced content. References inside copied content are
+ * followed the same way, relative to the file they came from. Remote references are left to the parser.
+ *
+ * Referenced files are read through the {@link SharedComponentCache}, so a component library
+ * uploaded with many bundles is parsed only once. The bundled document holds its own copy of
+ * every component it uses, so specifications do not share components once stored.
+ */
+@Component
+@Slf4j
+public class SpecificationBundler {
+
+    private static final Pattern COMPONENT_POINTER = Pattern.compile("^/components/([^/]+)/([^/]+)$");
+    private static final List<String> DEFAULT_ROOTS = List.of("openapi.yaml", "openapi.yml", "openapi.json");
+
+    private final SharedComponentCache componentCache;
+    private final long maxFileBytes;
+    private final long maxBundleBytes;
+    private final int maxFiles;
+
+    public SpecificationBundler(SharedComponentCache componentCache,
+                                @Value("${app.openapi.upload.max-size:20MB}") DataSize maxFileSize,
+                                @Value("${app.openapi.import.max-size:200MB}") DataSize maxBundleSize,
+                                @Value("${app.openapi.import.max-files:500}") int maxFiles) {
+        this.componentCache = componentCache;
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.maxBundleBytes = maxBundleSize.toBytes();
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Bundle the files of a zip archive.
+     *
+     * @param archive The zip archive
+     * @param rootPath Path of the root document within the archive, or null to use the
+     *                 {@code openapi.yaml}, {@code openapi.yml} or {@code openapi.json} at its top level
+     * @return The bundled specification, as JSON
+     * @throws SpecificationTooLargeException if the archive holds more files or more data than allowed
+     * @throws IllegalArgumentException if the archive is invalid or a reference cannot be resolved
+     */
+    public String bundle(InputStream archive, String rootPath) throws IOException {
+        return bundle(readArchive(archive), rootPath);
+    }
+
+    /**
+     * Bundle a set of files.
+     *
+     * @param files File contents by path, using {@code /} as separator
+     * @param rootPath Path of the root document, or null to use a top-level {@code openapi} document
+     * @return The bundled specification, as JSON
+     * @throws IllegalArgumentException if the root document is missing or a reference cannot be resolved
+     */
+    public String bundle(Map<String, String> files, String rootPath) {
+        String root = rootPath != null && !rootPath.isBlank() ? normalize(rootPath) : defaultRoot(files);
+        String rootContent = files.get(root);
+        if (rootContent == null) {
+            throw new IllegalArgumentException("Bundle has no root document '" + root + "'");
+        }
+
+        JsonNode rootTree;
+        try {
+            rootTree = Yaml.mapper().readTree(rootContent);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid root document: " + e.getOriginalMessage(), e);
+        }
+        if (rootTree == null || !rootTree.isObject()) {
+            throw new IllegalArgumentException("Root document is not a JSON or YAML object");
+        }
+
+        new Assembly(files, root, (ObjectNode) rootTree).run();
+        try {
+            return Json.mapper().writeValueAsString(rootTree);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write bundled specification", e);
+        }
+    }
+
+    private Map<String, String> readArchive(InputStream archive) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        long totalBytes = 0;
+        try (ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || SpecificationImporter.isMetadata(entry.getName())) {
+                    continue;
+                }
+                if (files.size() >= maxFiles) {
+                    throw new SpecificationTooLargeException("Bundle holds more than " + maxFiles + " files");
+                }
+                byte[] content = SpecificationContentReader.readAtMost(zip, maxFileBytes);
+                if (content == null) {
+                    throw new SpecificationTooLargeException("Bundle file '" + entry.getName()
+                            + "' exceeds the upload limit of " + maxFileBytes + " bytes");
+                }
+                totalBytes += content.length;
+                if (totalBytes > maxBundleBytes) {
+                    throw new SpecificationTooLargeException(
+                            "Bundle exceeds the limit of " + maxBundleBytes + " bytes");
+                }
+                files.put(normalize(entry.getName()), new String(content, StandardCharsets.UTF_8));
+            }
+        } catch (ZipException e) {
+            throw new IllegalArgumentException("Invalid zip archive: " + e.getMessage(), e);
+        }
+        return files;
+    }
+
+    private static String defaultRoot(Map<String, String> files) {
+        List<String> roots = DEFAULT_ROOTS.stream().filter(files::containsKey).toList();
+        if (roots.size() != 1) {
+            throw new IllegalArgumentException(
+                    "Name the root document of the bundle, or include exactly one of " + DEFAULT_ROOTS);
+        }
+        return roots.get(0);
+    }
+
+    /**
+     * Resolve a path against the directory of another file, removing {@code .} and {@code ..} segments.
+     */
+    static String resolve(String fromFile, String path) {
+        int directoryEnd = fromFile.lastIndexOf('/');
+        String base = directoryEnd >= 0 ? fromFile.substring(0, directoryEnd + 1) : "";
+        return normalize(path.startsWith("/") ? path : base + path);
+    }
+
+    private static String normalize(String path) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (String segment : path.replace('\\', '/').split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                if (segments.isEmpty()) {
+                    throw new IllegalArgumentException("Path '" + path + "' leaves the bundle");
+                }
+                segments.removeLast();
+            } else {
+                segments.addLast(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * State of bundling one root document.
+     */
+    private final class Assembly {
+
+        private final Map<String, String> files;
+        private final String root;
+        private final ObjectNode rootTree;
+
+        /**
+         * Local reference given to each copied component, by file and pointer.
+         */
+        private final Map<String, String> hoisted = new HashMap<>();
+
+        /**
+         * Copied components not yet added to the root, by section and name.
+         */
+        private final Map<String, Map<String, JsonNode>> pending = new LinkedHashMap<>();
+        private final List<Copy> toRewrite = new ArrayList<>();
+        private final Deque<String> inlining = new ArrayDeque<>();
+
+        /**
+         * Parsed form of each referenced file, so a file is digested and looked up in the
+         * component cache once per bundle rather than once per reference.
+         */
+        private final Map<String, JsonNode> trees = new HashMap<>();
+
+        Assembly(Map<String, String> files, String root, ObjectNode rootTree) {
+            this.files = files;
+            this.root = root;
+            this.rootTree = rootTree;
+        }
+
+        void run() {
+            rewrite(rootTree, root);
+            // Copies are rewritten after the walk, since rewriting them may copy more components
+            for (int i = 0; i < toRewrite.size(); i++) {
+                rewrite(toRewrite.get(i).node(), toRewrite.get(i).file());
+            }
+
+            if (!pending.isEmpty()) {
+                ObjectNode components = objectField(rootTree, "components");
+                pending.forEach((section, nodes) -> objectField(components, section).setAll(nodes));
+                log.debug("Bundled {} components from {} files into {}", hoisted.size(), files.size() - 1, root);
+            }
+        }
+
+        private void rewrite(JsonNode node, String file) {
+            if (node instanceof ObjectNode object) {
+                JsonNode ref = object.get("$ref");
+                if (ref != null && ref.isTextual() && rewriteRef(object, ref.asText(), file)) {
+                    // Replaced by content that has already been rewritten
+                    return;
+                }
+                object.fields().forEachRemaining(field -> {
+                    if (!field.getKey().equals("$ref")) {
+                        rewrite(field.getValue(), file);
+                    }
+                });
+            } else if (node instanceof ArrayNode array) {
+                array.forEach(element -> rewrite(element, file));
+            }
+        }
+
+        /**
+         * @return Whether the reference was replaced by the referenced content
+         */
+        private boolean rewriteRef(ObjectNode object, String ref, String file) {
+            if (ref.contains("://")) {
+                return false;
+            }
+            int hash = ref.indexOf('#');
+            String filePart = hash >= 0 ? ref.substring(0, hash) : ref;
+            String pointer = hash >= 0 ? ref.substring(hash + 1) : "";
+            String targetFile = filePart.isEmpty() ? file : resolve(file, filePart);
+
+            if (targetFile.equals(root)) {
+                if (!pointer.isEmpty()) {
+                    object.put("$ref", "#" + pointer);
+                }
+                return false;
+            }
+
+            Matcher component = COMPONENT_POINTER.matcher(pointer);
+            if (component.matches()) {
+                object.put("$ref", hoist(targetFile, pointer, component.group(1), component.group(2), file));
+                return false;
+            }
+
+            // Anything else is copied in place
+            String key = targetFile + "#" + pointer;
+            if (inlining.contains(key)) {
+                throw new IllegalArgumentException("Circular reference to '" + key
+                        + "'; reference it as a component under /components instead");
+            }
+            JsonNode target = target(targetFile, pointer, file);
+            if (!target.isObject()) {
+                throw new IllegalArgumentException("Reference '" + key + "' does not point to an object");
+            }
+            ObjectNode copy = (ObjectNode) target.deepCopy();
+            inlining.push(key);
+            rewrite(copy, targetFile);
+            inlining.pop();
+            object.removeAll();
+            object.setAll(copy);
+            return true;
+        }
+
+        private String hoist(String file, String pointer, String section, String name, String referencedFrom) {
+            String key = file + "#" + pointer;
+            String existing = hoisted.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            JsonNode target = target(file, pointer, referencedFrom);
+            String uniqueName = uniqueName(section, name);
+            String localRef = "#/components/" + section + "/" + uniqueName;
+            hoisted.put(key, localRef);
+
+            JsonNode copy = target.deepCopy();
+            pending.computeIfAbsent(section, s -> new LinkedHashMap<>()).put(uniqueName, copy);
+            toRewrite.add(new Copy(copy, file));
+            return localRef;
+        }
+
+        private String uniqueName(String section, String name) {
+            JsonNode existing = rootTree.path("components").path(section);
+            Map<String, JsonNode> copied = pending.getOrDefault(section, Map.of());
+            String candidate = name;
+            for (int i = 2; existing.has(candidate) || copied.containsKey(candidate); i++) {
+                candidate = name + "_" + i;
+            }
+            return candidate;
+        }
+
+        private JsonNode target(String file, String pointer, String referencedFrom) {
+            JsonNode tree = trees.get(file);
+            if (tree == null) {
+                String content = files.get(file);
+                if (content == null) {
+                    throw new IllegalArgumentException("Bundle has no file '" + file
+                            + "', referenced from '" + referencedFrom + "'");
+                }
+                tree = componentCache.get(content);
+                trees.put(file, tree);
+            }
+            JsonNode target = tree.at(JsonPointer.compile(pointer));
+            if (target.isMissingNode()) {
+                throw new IllegalArgumentException("Bundle file '" + file + "' has nothing at '" + pointer + "'");
+            }
+            return target;
+        }
+
+        private static ObjectNode objectField(ObjectNode parent, String name) {
+            JsonNode child = parent.get(name);
+            return child instanceof ObjectNode object ? object : parent.putObject(name);
+        }
+    }
+
+    private record Copy(JsonNode node, String file) {
+    }
+}
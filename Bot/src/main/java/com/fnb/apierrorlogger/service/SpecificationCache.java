@@ -0,0 +1,199 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.CacheStatsResponse;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.service.validation.CompiledSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, size-weighted LRU cache of parsed OpenAPI specifications.
+ * Entries are keyed by content digest, so a stored specification is parsed at most once per
+ * version regardless of how many error requests reference it, and APIs with identical content
+ * share one compiled form. Specifications stored without a digest are keyed by ID and last
+ * update time instead.
+ */
+@Component
+@Slf4j
+public class SpecificationCache {
+
+    /**
+     * Default weight budget, expressed in characters of specification content.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 32L * 1024 * 1024;
+
+    private final long maxWeight;
+    private final LinkedHashMap<SpecKey, CompiledSpecification> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<SpecKey, CompletableFuture<CompiledSpecification>> inFlight = new ConcurrentHashMap<>();
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SpecificationCache(@Value("${app.validation.spec-cache.max-weight:33554432}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Get the compiled form of a specification, loading it on a miss.
+     * Concurrent misses for the same version share a single load.
+     * Specifications that have not been persisted yet are loaded without being cached.
+     *
+     * @param specification The specification to look up
+     * @param loader Function that parses the specification; may return null if it cannot be parsed
+     * @return The compiled specification, or null if the loader could not produce one
+     */
+    public CompiledSpecification get(OpenAPISpecification specification,
+                                     Function<OpenAPISpecification, CompiledSpecification> loader) {
+        if (specification.getId() == null) {
+            misses.increment();
+            return loader.apply(specification);
+        }
+
+        SpecKey key = SpecKey.of(specification);
+
+        CompiledSpecification cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        CompletableFuture<CompiledSpecification> future = new CompletableFuture<>();
+        CompletableFuture<CompiledSpecification> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return awaitLoad(existing);
+        }
+
+        try {
+            CompiledSpecification loaded = loader.apply(specification);
+            if (loaded != null) {
+                put(key, loaded);
+            }
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Drop every cached version of a specification.
+     * Entries keyed by content digest are left in place: they cannot go stale and may be shared
+     * with other specifications, so they are only removed by eviction.
+     *
+     * @param specificationId The specification ID
+     */
+    public void invalidate(UUID specificationId) {
+        synchronized (entries) {
+            Iterator<Map.Entry<SpecKey, CompiledSpecification>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<SpecKey, CompiledSpecification> entry = iterator.next();
+                if (specificationId.equals(entry.getKey().specificationId())) {
+                    totalWeight -= entry.getValue().getWeight();
+                    iterator.remove();
+                }
+            }
+        }
+        log.debug("Invalidated cached specification: {}", specificationId);
+    }
+
+    @EventListener
+    public void onSpecificationUpdated(SpecificationUpdatedEvent event) {
+        invalidate(event.getSpecificationId());
+    }
+
+    /**
+     * Get a snapshot of the cache statistics.
+     */
+    public CacheStatsResponse stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        synchronized (entries) {
+            return CacheStatsResponse.builder()
+                    .hitCount(hitCount)
+                    .missCount(missCount)
+                    .evictionCount(evictions.sum())
+                    .entryCount(entries.size())
+                    .totalWeight(totalWeight)
+                    .maxWeight(maxWeight)
+                    .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+                    .build();
+        }
+    }
+
+    private void put(SpecKey key, CompiledSpecification value) {
+        if (value.getWeight() > maxWeight) {
+            log.warn("Specification {} is too large to cache (weight {}, max {})",
+                    key, value.getWeight(), maxWeight);
+            return;
+        }
+
+        synchronized (entries) {
+            CompiledSpecification previous = entries.put(key, value);
+            if (previous != null) {
+                totalWeight -= previous.getWeight();
+            }
+            totalWeight += value.getWeight();
+
+            // Access-ordered map: the first entry is the least recently used
+            Iterator<Map.Entry<SpecKey, CompiledSpecification>> iterator = entries.entrySet().iterator();
+            while (totalWeight > maxWeight && iterator.hasNext()) {
+                Map.Entry<SpecKey, CompiledSpecification> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                totalWeight -= eldest.getValue().getWeight();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private CompiledSpecification awaitLoad(CompletableFuture<CompiledSpecification> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Either a content digest, or a specification ID and update time when there is no digest.
+     */
+    private record SpecKey(String contentDigest, UUID specificationId, LocalDateTime updatedAt) {
+
+        static SpecKey of(OpenAPISpecification specification) {
+            if (specification.getContentDigest() != null) {
+                return new SpecKey(specification.getContentDigest(), null, null);
+            }
+            return new SpecKey(null, specification.getId(), specification.getUpdatedAt());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Tells the other nodes of a cluster when a specification has been updated, through Postgres
+ * {@code LISTEN/NOTIFY}, so their {@link SpecificationLookupCache} drops it.
+ *
+ * The notification is sent in the transaction that updates the specification, so Postgres only
+ * delivers it once the update is committed. Each node listens on one dedicated connection; while
+ * that connection is down, lookups fall back to checking the stored update time, and every cached
+ * lookup is dropped on reconnecting since notifications may have been missed. Nothing is started
+ * on databases other than Postgres.
+ */
+@Component
+@Slf4j
+public class SpecificationChangeNotifications {
+
+    public static final String CHANNEL = "openapi_spec_updates";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final SpecificationLookupCache lookupCache;
+    private final boolean enabled;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public SpecificationChangeNotifications(JdbcTemplate jdbcTemplate,
+                                            SpecificationLookupCache lookupCache,
+                                            @Value("${app.openapi.lookup-cache.notifications.enabled:true}") boolean enabled,
+                                            @Value("${app.openapi.lookup-cache.notifications.poll-timeout:PT10S}") Duration pollTimeout,
+                                            @Value("${app.openapi.lookup-cache.notifications.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.dataSource = jdbcTemplate.getDataSource();
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookupCache = lookupCache;
+        this.enabled = enabled;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Specification change notifications disabled, cached lookups are checked against the database");
+            return;
+        }
+        if (!isPostgres()) {
+            log.info("Database is not Postgres, specification change notifications are not used");
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "spec-change-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    /**
+     * Notify the other nodes of an update. Runs inside the updating transaction, so the
+     * notification is delivered on commit and dropped on rollback.
+     */
+    @EventListener
+    public void onSpecificationUpdated(SpecificationUpdatedEvent event) {
+        if (!running) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, event.getApiIdentifier());
+        } catch (RuntimeException e) {
+            // Other nodes still pick the update up through their update time checks
+            log.warn("Failed to notify other nodes of update to specification {}: {}",
+                    event.getApiIdentifier(), e.getMessage());
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                lookupCache.invalidateAll();
+                lookupCache.setNotificationsActive(true);
+                log.info("Listening for specification changes on channel {}", CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            log.debug("Specification {} changed on another node", notification.getParameter());
+                            lookupCache.invalidate(notification.getParameter());
+                        }
+                    }
+                }
+                // The connection goes back to the pool
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + CHANNEL);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Lost specification change notifications, reconnecting in {}: {}",
+                            reconnectDelay, e.getMessage());
+                }
+            } finally {
+                lookupCache.setNotificationsActive(false);
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("Could not determine the database type: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.exception.SpecificationTooLargeException;
+import com.fnb.apierrorlogger.exception.UnsupportedContentEncodingException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Reads raw specification uploads straight off the request body stream.
+ *
+ * The body is decompressed as it is read and copied once into the specification text, so a large
+ * specification is not also held as a JSON-escaped request field. The upload limit applies to the
+ * decompressed size and is checked while reading, so oversized or highly compressed uploads are
+ * refused without being buffered in full.
+ */
+@Component
+public class SpecificationContentReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long maxBytes;
+
+    public SpecificationContentReader(@Value("${app.openapi.upload.max-size:20MB}") DataSize maxSize) {
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * Read an uploaded specification.
+     *
+     * @param body The request body
+     * @param contentEncoding The Content-Encoding of the body: gzip, or none/identity when uncompressed
+     * @param contentLength The declared length of the body, or -1 if unknown
+     * @return The specification content
+     * @throws SpecificationTooLargeException if the specification is larger than the upload limit
+     * @throws UnsupportedContentEncodingException if the encoding is not supported
+     * @throws IllegalArgumentException if the body is not validly encoded
+     */
+    public String read(InputStream body, String contentEncoding, long contentLength) throws IOException {
+        boolean gzip = isGzip(contentEncoding);
+        // Compressed bodies are only checked once decompressed
+        if (!gzip && contentLength > maxBytes) {
+            throw tooLarge();
+        }
+
+        try (InputStream in = gzip ? new GZIPInputStream(body, BUFFER_SIZE) : body) {
+            int initialSize = !gzip && contentLength > 0 ? (int) contentLength : BUFFER_SIZE;
+            ByteArrayOutputStream content = new ByteArrayOutputStream(initialSize);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw tooLarge();
+                }
+                content.write(buffer, 0, read);
+            }
+            return content.toString(StandardCharsets.UTF_8);
+        } catch (ZipException e) {
+            throw new IllegalArgumentException("Invalid gzip content: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read a stream to its end, unless it holds more than a given number of bytes.
+     *
+     * @return The bytes read, or null if there were more than {@code maxBytes}
+     */
+    static byte[] readAtMost(InputStream in, long maxBytes) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream(BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                return null;
+            }
+            content.write(buffer, 0, read);
+        }
+        return content.toByteArray();
+    }
+
+    private static boolean isGzip(String contentEncoding) {
+        if (contentEncoding == null || contentEncoding.isBlank()) {
+            return false;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> true;
+            case "identity", "none" -> false;
+            default -> throw new UnsupportedContentEncodingException(
+                    "Unsupported content encoding '" + contentEncoding + "', use gzip or send uncompressed");
+        };
+    }
+
+    private SpecificationTooLargeException tooLarge() {
+        return new SpecificationTooLargeException("Specification exceeds the upload limit of " + maxBytes + " bytes");
+    }
+}
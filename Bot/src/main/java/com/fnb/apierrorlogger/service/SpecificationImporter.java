@@ -0,0 +1,257 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.SpecificationImportReport;
+import com.fnb.apierrorlogger.dto.SpecificationImportResult;
+import com.fnb.apierrorlogger.exception.SpecificationTooLargeException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Imports a zip archive of specification files in one go.
+ *
+ * Each {@code .json}, {@code .yaml} or {@code .yml} file becomes the specification of the API
+ * named after the file, without directory or extension; other files are skipped. Files are
+ * parsed and validated in parallel on a pool shared by all imports, {@code import.parallelism}
+ * wide, rather than on the shared parser pool, so an import neither waits for that pool nor
+ * crowds interactive uploads out of it, and concurrent imports together never parse more files
+ * at once than the pool has threads. Every valid specification is then created or updated in
+ * a single transaction. Invalid files do not stop the others from being imported; each file's
+ * outcome is reported.
+ */
+@Component
+@Slf4j
+public class SpecificationImporter {
+
+    public static final String STATUS_CREATED = "created";
+    public static final String STATUS_UPDATED = "updated";
+    public static final String STATUS_UNCHANGED = "unchanged";
+    public static final String STATUS_FAILED = "failed";
+    public static final String STATUS_SKIPPED = "skipped";
+
+    private final OpenAPIManager openAPIManager;
+    private final long maxFileBytes;
+    private final long maxArchiveBytes;
+    private final int maxFiles;
+    private final int parallelism;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    public SpecificationImporter(OpenAPIManager openAPIManager,
+                                 @Value("${app.openapi.upload.max-size:20MB}") DataSize maxFileSize,
+                                 @Value("${app.openapi.import.max-size:200MB}") DataSize maxArchiveSize,
+                                 @Value("${app.openapi.import.max-files:500}") int maxFiles,
+                                 @Value("${app.openapi.import.parallelism:0}") int parallelism,
+                                 @Value("${app.openapi.import.timeout:PT2M}") Duration timeout) {
+        this.openAPIManager = openAPIManager;
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.maxArchiveBytes = maxArchiveSize.toBytes();
+        this.maxFiles = maxFiles;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(this.parallelism, this.parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Import every specification in a zip archive.
+     *
+     * @param archive The zip archive
+     * @param uploadedBy The user importing the specifications
+     * @return The outcome for each file in the archive
+     * @throws SpecificationTooLargeException if the archive holds more files or more data than allowed
+     * @throws IllegalArgumentException if the archive is not a valid zip file
+     */
+    public SpecificationImportReport importArchive(InputStream archive, String uploadedBy) throws IOException {
+        long startNanos = System.nanoTime();
+        List<SpecificationImportResult> results = new ArrayList<>();
+        Map<String, String> contents = new LinkedHashMap<>();
+        Map<String, SpecificationImportResult> resultsByApi = new LinkedHashMap<>();
+        readArchive(archive, results, contents, resultsByApi);
+
+        log.info("Importing {} specifications on {} threads", contents.size(), parallelism);
+        Map<String, ParsedSpecification> parsed = parseAll(contents, resultsByApi);
+
+        for (ImportedSpecification imported : openAPIManager.importSpecifications(parsed, uploadedBy)) {
+            SpecificationImportResult result = resultsByApi.get(imported.getSpecification().getApiIdentifier());
+            result.setStatus(!imported.isChanged() ? STATUS_UNCHANGED
+                    : imported.isCreated() ? STATUS_CREATED : STATUS_UPDATED);
+            result.setSpecificationId(imported.getSpecification().getId());
+            result.setVersion(imported.getSpecification().getVersion());
+        }
+
+        return report(results, startNanos);
+    }
+
+    private void readArchive(InputStream archive, List<SpecificationImportResult> results,
+                             Map<String, String> contents, Map<String, SpecificationImportResult> resultsByApi)
+            throws IOException {
+        long totalBytes = 0;
+        Set<String> seen = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || isMetadata(entry.getName())) {
+                    continue;
+                }
+                if (results.size() >= maxFiles) {
+                    throw new SpecificationTooLargeException("Archive holds more than " + maxFiles + " files");
+                }
+
+                SpecificationImportResult result = SpecificationImportResult.builder()
+                        .fileName(entry.getName())
+                        .build();
+                results.add(result);
+                String apiIdentifier = apiIdentifier(entry.getName());
+                if (apiIdentifier == null) {
+                    result.setStatus(STATUS_SKIPPED);
+                    continue;
+                }
+                result.setApiIdentifier(apiIdentifier);
+                if (!seen.add(apiIdentifier)) {
+                    fail(result, "Another file in the archive is already named '" + apiIdentifier + "'");
+                    continue;
+                }
+
+                byte[] content = SpecificationContentReader.readAtMost(zip, maxFileBytes);
+                if (content == null) {
+                    fail(result, "Specification exceeds the upload limit of " + maxFileBytes + " bytes");
+                    continue;
+                }
+                totalBytes += content.length;
+                if (totalBytes > maxArchiveBytes) {
+                    throw new SpecificationTooLargeException(
+                            "Archive exceeds the import limit of " + maxArchiveBytes + " bytes");
+                }
+                contents.put(apiIdentifier, new String(content, StandardCharsets.UTF_8));
+                resultsByApi.put(apiIdentifier, result);
+            }
+        } catch (ZipException e) {
+            throw new IllegalArgumentException("Invalid zip archive: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, ParsedSpecification> parseAll(Map<String, String> contents,
+                                                      Map<String, SpecificationImportResult> resultsByApi) {
+        Map<String, ParsedSpecification> parsed = new LinkedHashMap<>();
+        if (contents.isEmpty()) {
+            return parsed;
+        }
+
+        Map<String, Future<ParsedSpecification>> futures = new LinkedHashMap<>();
+        try {
+            contents.forEach((apiIdentifier, content) ->
+                    futures.put(apiIdentifier, executor.submit(() -> openAPIManager.parseSpecification(content))));
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            for (Map.Entry<String, Future<ParsedSpecification>> future : futures.entrySet()) {
+                SpecificationImportResult result = resultsByApi.get(future.getKey());
+                try {
+                    long remaining = Math.max(0, deadline - System.nanoTime());
+                    parsed.put(future.getKey(), future.getValue().get(remaining, TimeUnit.NANOSECONDS));
+                } catch (ExecutionException e) {
+                    fail(result, e.getCause().getMessage());
+                } catch (TimeoutException e) {
+                    fail(result, "Parsing did not finish within the import timeout of " + timeout);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while importing specifications", e);
+                }
+            }
+        } finally {
+            // Frees the shared pool of whatever this import no longer waits for
+            futures.values().forEach(future -> future.cancel(true));
+        }
+        return parsed;
+    }
+
+    private SpecificationImportReport report(List<SpecificationImportResult> results, long startNanos) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (SpecificationImportResult result : results) {
+            counts.merge(result.getStatus(), 1, Integer::sum);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        log.info("Specification import finished in {} ms: {}", elapsedMillis, counts);
+
+        return SpecificationImportReport.builder()
+                .total(results.size())
+                .createdCount(counts.getOrDefault(STATUS_CREATED, 0))
+                .updatedCount(counts.getOrDefault(STATUS_UPDATED, 0))
+                .unchangedCount(counts.getOrDefault(STATUS_UNCHANGED, 0))
+                .failedCount(counts.getOrDefault(STATUS_FAILED, 0))
+                .skippedCount(counts.getOrDefault(STATUS_SKIPPED, 0))
+                .parallelism(parallelism)
+                .elapsedMillis(elapsedMillis)
+                .files(results)
+                .build();
+    }
+
+    private static void fail(SpecificationImportResult result, String message) {
+        result.setStatus(STATUS_FAILED);
+        result.setFailureMessage(message);
+    }
+
+    /**
+     * @return The API identifier for a specification file, or null if the file is not a specification
+     */
+    private static String apiIdentifier(String entryName) {
+        String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        int extension = fileName.lastIndexOf('.');
+        if (extension <= 0) {
+            return null;
+        }
+        return switch (fileName.substring(extension + 1).toLowerCase(Locale.ROOT)) {
+            case "json", "yaml", "yml" -> fileName.substring(0, extension);
+            default -> null;
+        };
+    }
+
+    /**
+     * Whether an entry was added by the archiving tool rather than the user, such as macOS resource forks.
+     */
+    static boolean isMetadata(String entryName) {
+        String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        return entryName.startsWith("__MACOSX/") || fileName.startsWith(".");
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "spec-import-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
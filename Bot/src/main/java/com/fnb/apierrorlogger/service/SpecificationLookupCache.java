@@ -0,0 +1,153 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.repository.SpecificationReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Near-cache of specification lookups by API identifier, so logging an error request does not
+ * need a database round trip to find its specification.
+ *
+ * Entries are {@link SpecificationReference}s, which name a specification version without holding
+ * its content, so the cache stays small however many APIs it covers. The content itself is only
+ * loaded when the compiled form of that version is not already in the {@link SpecificationCache}.
+ *
+ * Entries are dropped when a specification is updated, on this node through the update event
+ * and on other nodes through {@link SpecificationChangeNotifications}. As a fallback, an entry
+ * older than {@code verify-after} is checked against the stored update time before it is used,
+ * which is a small indexed query that does not load the content. While change notifications are
+ * being received, entries are checked only every {@code verify-after-when-notified}.
+ * Lookups that find no specification are not cached, so new uploads are seen straight away.
+ */
+@Component
+@Slf4j
+public class SpecificationLookupCache {
+
+    private final OpenAPIManager openAPIManager;
+    private final long verifyAfterNanos;
+    private final long verifyAfterWhenNotifiedNanos;
+    private final Map<String, CachedLookup> entries;
+
+    /**
+     * Incremented on every invalidation, so a lookup that raced with one is not cached.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean notificationsActive;
+
+    public SpecificationLookupCache(OpenAPIManager openAPIManager,
+                                    @Value("${app.openapi.lookup-cache.max-entries:1000}") int maxEntries,
+                                    @Value("${app.openapi.lookup-cache.verify-after:PT5S}") Duration verifyAfter,
+                                    @Value("${app.openapi.lookup-cache.verify-after-when-notified:PT5M}")
+                                    Duration verifyAfterWhenNotified) {
+        this.openAPIManager = openAPIManager;
+        this.verifyAfterNanos = verifyAfter.toNanos();
+        this.verifyAfterWhenNotifiedNanos = verifyAfterWhenNotified.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLookup> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get a reference to the specification stored for an API identifier.
+     *
+     * @param apiIdentifier The API identifier
+     * @return Optional containing the reference if a specification is found
+     */
+    public Optional<SpecificationReference> get(String apiIdentifier) {
+        long generation = invalidations.get();
+        CachedLookup cached;
+        synchronized (entries) {
+            cached = entries.get(apiIdentifier);
+        }
+
+        long now = System.nanoTime();
+        if (cached != null) {
+            long verifyAfter = notificationsActive ? verifyAfterWhenNotifiedNanos : verifyAfterNanos;
+            if (now - cached.verifiedAt() < verifyAfter) {
+                return Optional.of(cached.reference());
+            }
+            if (isCurrent(apiIdentifier, cached.reference())) {
+                store(apiIdentifier, new CachedLookup(cached.reference(), now), generation);
+                return Optional.of(cached.reference());
+            }
+            log.debug("Cached specification for API {} is out of date", apiIdentifier);
+        }
+
+        Optional<SpecificationReference> loaded = openAPIManager.getSpecificationReferenceByApiIdentifier(apiIdentifier);
+        if (loaded.isPresent()) {
+            store(apiIdentifier, new CachedLookup(loaded.get(), now), generation);
+        } else if (cached != null) {
+            synchronized (entries) {
+                entries.remove(apiIdentifier);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop the cached lookup of an API identifier.
+     */
+    public void invalidate(String apiIdentifier) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(apiIdentifier);
+        }
+    }
+
+    /**
+     * Drop every cached lookup, for when change notifications may have been missed.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Record whether changes made on other nodes are currently being received, which lets
+     * entries be used for longer before they are checked.
+     */
+    public void setNotificationsActive(boolean notificationsActive) {
+        this.notificationsActive = notificationsActive;
+    }
+
+    /**
+     * Drop the lookup once the update is committed, so it cannot be reloaded in its old state.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpecificationUpdated(SpecificationUpdatedEvent event) {
+        invalidate(event.getApiIdentifier());
+    }
+
+    private boolean isCurrent(String apiIdentifier, SpecificationReference cached) {
+        Optional<LocalDateTime> updatedAt = openAPIManager.getSpecificationUpdatedAtByApiIdentifier(apiIdentifier);
+        return updatedAt.isPresent() && Objects.equals(updatedAt.get(), cached.updatedAt());
+    }
+
+    private void store(String apiIdentifier, CachedLookup lookup, long generation) {
+        synchronized (entries) {
+            // An invalidation since the lookup started may have been for this entry
+            if (invalidations.get() == generation) {
+                entries.put(apiIdentifier, lookup);
+            }
+        }
+    }
+
+    private record CachedLookup(SpecificationReference reference, long verifiedAt) {
+    }
+}
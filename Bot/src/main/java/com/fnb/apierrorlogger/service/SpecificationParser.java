@@ -0,0 +1,178 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.exception.SpecificationParseTimeoutException;
+import com.fnb.apierrorlogger.exception.SpecificationParserBusyException;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses OpenAPI specifications on dedicated, bounded worker pools.
+ *
+ * Parsing a large specification is CPU and memory heavy, so it is kept off the request threads.
+ * Uploads and updates share one lane: at most {@code pool-size} parses run at once and at most
+ * {@code queue-capacity} more wait. When that queue is full the caller is refused straight away;
+ * a queued caller waits up to {@code timeout} for its result.
+ *
+ * Validations that miss the cache and have no stored resolved form parse on a lane of their own,
+ * {@code validation-pool-size} wide, so a burst of uploads cannot turn them away. That lane never
+ * refuses work: once its queue is full the validating thread parses the specification itself.
+ *
+ * A caller that gives up waiting is released, but swagger-parser does not respond to
+ * interruption, so the parse it started runs to completion on its worker and keeps it busy.
+ */
+@Component
+@Slf4j
+public class SpecificationParser {
+
+    public static final int DEFAULT_POOL_SIZE = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor validationExecutor;
+    private final Duration timeout;
+
+    @Autowired
+    public SpecificationParser(@Value("${app.validation.parser.pool-size:2}") int poolSize,
+                               @Value("${app.validation.parser.queue-capacity:16}") int queueCapacity,
+                               @Value("${app.validation.parser.validation-pool-size:2}") int validationPoolSize,
+                               @Value("${app.validation.parser.timeout:PT30S}") Duration timeout) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory("spec-parser-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.validationExecutor = new ThreadPoolExecutor(validationPoolSize, validationPoolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory("spec-validation-parser-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.validationExecutor.allowCoreThreadTimeOut(true);
+        this.timeout = timeout;
+    }
+
+    /**
+     * A parser whose validation lane is as wide as its upload lane.
+     */
+    public SpecificationParser(int poolSize, int queueCapacity, Duration timeout) {
+        this(poolSize, queueCapacity, poolSize, timeout);
+    }
+
+    /**
+     * A parser with the default limits, for use outside the Spring context.
+     */
+    public static SpecificationParser defaults() {
+        return new SpecificationParser(DEFAULT_POOL_SIZE, DEFAULT_QUEUE_CAPACITY, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Parse an uploaded specification on the upload lane and wait for the result.
+     *
+     * @param specContent The specification content (JSON or YAML)
+     * @param options Parse options, or null for the defaults
+     * @return The parse result
+     * @throws SpecificationParserBusyException if the parse queue is full
+     * @throws SpecificationParseTimeoutException if the parse does not finish within the timeout
+     */
+    public SwaggerParseResult parse(String specContent, ParseOptions options) {
+        Future<SwaggerParseResult> future;
+        try {
+            future = executor.submit(() -> readContents(specContent, options));
+        } catch (RejectedExecutionException e) {
+            log.warn("Specification parser busy: {} running, {} queued", executor.getActiveCount(), executor.getQueue().size());
+            throw new SpecificationParserBusyException("Specification parser is busy, try again later");
+        }
+        return await(future);
+    }
+
+    /**
+     * Parse a stored specification for validation on the validation lane and wait for the result.
+     * Never refused; when the lane is full the parse runs on the calling thread.
+     *
+     * @param specContent The specification content (JSON or YAML)
+     * @param options Parse options, or null for the defaults
+     * @return The parse result
+     * @throws SpecificationParseTimeoutException if the parse does not finish within the timeout
+     */
+    public SwaggerParseResult parseForValidation(String specContent, ParseOptions options) {
+        return await(validationExecutor.submit(() -> readContents(specContent, options)));
+    }
+
+    /**
+     * Parse a specification on the calling thread, outside the worker pools. For callers that
+     * run on a bounded pool of their own, such as bulk import, so they neither wait for nor fill
+     * the shared lanes.
+     *
+     * @param specContent The specification content (JSON or YAML)
+     * @param options Parse options, or null for the defaults
+     * @return The parse result
+     */
+    public SwaggerParseResult parseOnCallingThread(String specContent, ParseOptions options) {
+        return readContents(specContent, options);
+    }
+
+    private SwaggerParseResult await(Future<SwaggerParseResult> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the parse if it is still queued; one already running is not stopped
+            future.cancel(true);
+            log.warn("Specification parse timed out after {}", timeout);
+            throw new SpecificationParseTimeoutException("Specification parse timed out after " + timeout.toSeconds() + " s");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SpecificationParseTimeoutException("Interrupted while waiting for specification parse");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Specification parse failed", cause);
+        }
+    }
+
+    private static SwaggerParseResult readContents(String specContent, ParseOptions options) {
+        // Parser instances hold per-parse state, so each parse gets its own
+        return new OpenAPIV3Parser().readContents(specContent, null, options);
+    }
+
+    /**
+     * Most parses that can be running or queued at once on the upload lane.
+     */
+    public int getCapacity() {
+        return executor.getMaximumPoolSize() + executor.getQueue().remainingCapacity() + executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        validationExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.CompressedText;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Copies specification content stored before compression was introduced into the compressed column.
+ *
+ * Older databases keep the original text in the jsonb {@code spec_content} column, which the
+ * schema update leaves in place. Each such row is compressed into {@code spec_content_gz} and gets
+ * its digest and metadata filled in, in batches so large tables are not loaded at once.
+ *
+ * Runs while the application context is initialised, once Hibernate has updated the schema and
+ * before the web server accepts requests, so no upload meets the old column's NOT NULL constraint
+ * and no validation reads a row without compressed content. For the same reason a failed
+ * migration fails startup rather than leave the node serving such rows. The old value is left in
+ * place for nodes still running the previous release during a rolling deploy; the column is
+ * dropped by a later release.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class SpecificationStorageMigration {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String LEGACY_COLUMN_EXISTS = "SELECT COUNT(*) FROM information_schema.columns "
+            + "WHERE LOWER(table_name) = 'openapi_specifications' AND LOWER(column_name) = 'spec_content'";
+    private static final String DROP_LEGACY_NOT_NULL =
+            "ALTER TABLE openapi_specifications ALTER COLUMN spec_content DROP NOT NULL";
+    private static final String SELECT_LEGACY_BATCH = "SELECT id, CAST(spec_content AS TEXT) AS content "
+            + "FROM openapi_specifications WHERE spec_content IS NOT NULL AND spec_content_gz IS NULL LIMIT ?";
+    private static final String MIGRATE_ROW = "UPDATE openapi_specifications SET spec_content_gz = ?, "
+            + "content_digest = COALESCE(content_digest, ?), title = COALESCE(title, ?), "
+            + "path_count = COALESCE(path_count, ?) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public SpecificationStorageMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void run() {
+        try {
+            Integer legacyColumns = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS, Integer.class);
+            if (legacyColumns == null || legacyColumns == 0) {
+                return;
+            }
+            jdbcTemplate.execute(DROP_LEGACY_NOT_NULL);
+            int migrated = migrate();
+            if (migrated > 0) {
+                log.info("Copied {} specifications into compressed storage", migrated);
+            }
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Failed to copy specifications into compressed storage", e);
+        }
+    }
+
+    /**
+     * @return The number of rows migrated
+     */
+    int migrate() {
+        int migrated = 0;
+        while (true) {
+            List<LegacyRow> batch = jdbcTemplate.query(SELECT_LEGACY_BATCH,
+                    (rs, rowNum) -> new LegacyRow(rs.getObject("id", UUID.class), rs.getString("content")),
+                    BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return migrated;
+            }
+            for (LegacyRow row : batch) {
+                JsonNode tree = readTree(row.content());
+                String title = tree.path("info").path("title").isTextual()
+                        ? tree.path("info").path("title").asText() : null;
+                Integer pathCount = tree.path("paths").isObject() ? tree.path("paths").size() : null;
+                jdbcTemplate.update(MIGRATE_ROW, CompressedText.compress(row.content()),
+                        ContentDigest.sha256(row.content()), title, pathCount, row.id());
+            }
+            migrated += batch.size();
+        }
+    }
+
+    private JsonNode readTree(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (Exception e) {
+            // Metadata is filled in on the next update instead
+            return objectMapper.missingNode();
+        }
+    }
+
+    private record LegacyRow(UUID id, String content) {
+    }
+}
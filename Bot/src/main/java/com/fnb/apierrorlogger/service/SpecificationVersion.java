@@ -0,0 +1,33 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.service.validation.CompiledSpecification;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One compiled version of a stored specification.
+ * A version is active from its {@code updatedAt} time until the next version replaced it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SpecificationVersion {
+
+    private final UUID specificationId;
+    private final String version;
+
+    /**
+     * When this content was stored; null for specifications that have not been persisted.
+     */
+    private final LocalDateTime updatedAt;
+    private final CompiledSpecification compiled;
+
+    /**
+     * Whether this version was already active at the given time.
+     */
+    public boolean isActiveAt(LocalDateTime timestamp) {
+        return updatedAt == null || !updatedAt.isAfter(timestamp);
+    }
+}
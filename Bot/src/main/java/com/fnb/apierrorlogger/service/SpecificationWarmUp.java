@@ -0,0 +1,224 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.SpecificationCompileTime;
+import com.fnb.apierrorlogger.dto.WarmUpReportResponse;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.service.validation.CompiledSpecification;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses and compiles every stored specification at startup, so the first error requests after
+ * a deploy do not pay the parse cost.
+ *
+ * Warm-up runs as an application runner, and Spring Boot only reports the application as ready
+ * to accept traffic once all runners have finished, so readiness follows warm-up.
+ * Specifications are compiled in parallel on a bounded pool; any not done by the timeout are
+ * left to be compiled lazily on first use. Updated specifications are compiled in the background
+ * as soon as the update is committed, on a pool as wide as the warm-up one, so the committing
+ * thread does not wait for them.
+ */
+@Component
+@Slf4j
+public class SpecificationWarmUp implements ApplicationRunner {
+
+    public static final String STATUS_PENDING = "pending";
+    public static final String STATUS_SKIPPED = "skipped";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_TIMED_OUT = "timed_out";
+    public static final String STATUS_FAILED = "failed";
+
+    private final OpenAPIManager openAPIManager;
+    private final ValidationEngine validationEngine;
+    private final boolean eager;
+    private final int parallelism;
+    private final Duration timeout;
+    private final ThreadPoolExecutor updateExecutor;
+
+    private volatile WarmUpReportResponse report;
+
+    public SpecificationWarmUp(OpenAPIManager openAPIManager,
+                               ValidationEngine validationEngine,
+                               SpecificationParser specificationParser,
+                               @Value("${app.validation.warm-up.eager:true}") boolean eager,
+                               @Value("${app.validation.warm-up.parallelism:0}") int parallelism,
+                               @Value("${app.validation.warm-up.timeout:PT2M}") Duration timeout) {
+        this.openAPIManager = openAPIManager;
+        this.validationEngine = validationEngine;
+        this.eager = eager;
+        // More threads than the parser pool can hold would only be refused by it
+        this.parallelism = Math.min(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                specificationParser.getCapacity());
+        this.timeout = timeout;
+        this.updateExecutor = new ThreadPoolExecutor(this.parallelism, this.parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory("spec-recompile-"));
+        this.updateExecutor.allowCoreThreadTimeOut(true);
+        this.report = WarmUpReportResponse.builder()
+                .status(eager ? STATUS_PENDING : STATUS_SKIPPED)
+                .parallelism(this.parallelism)
+                .build();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!eager) {
+            log.info("Specification warm-up disabled, specifications will be compiled on first use");
+            return;
+        }
+        report = warmUp();
+    }
+
+    /**
+     * Compile an updated specification in the background once it has been committed, so its
+     * new version is registered before the first error request against it arrives.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpecificationUpdated(SpecificationUpdatedEvent event) {
+        updateExecutor.execute(() -> {
+            try {
+                openAPIManager.getSpecification(event.getSpecificationId()).ifPresent(this::compile);
+            } catch (RuntimeException e) {
+                log.warn("Failed to load updated specification {}: {}", event.getSpecificationId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Get the report of the last warm-up.
+     */
+    public WarmUpReportResponse getReport() {
+        return report;
+    }
+
+    /**
+     * Compile every stored specification and report the time taken for each.
+     */
+    WarmUpReportResponse warmUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+
+        List<OpenAPISpecification> specifications;
+        try {
+            specifications = openAPIManager.getAllSpecifications();
+        } catch (RuntimeException e) {
+            log.error("Specification warm-up failed to load specifications: {}", e.getMessage(), e);
+            return finish(STATUS_FAILED, startedAt, startNanos, 0, List.of());
+        }
+        log.info("Warming up {} specifications on {} threads", specifications.size(), parallelism);
+
+        Queue<SpecificationCompileTime> compileTimes = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory("spec-warm-up-"));
+        for (OpenAPISpecification specification : specifications) {
+            executor.execute(() -> compileTimes.add(compile(specification)));
+        }
+        executor.shutdown();
+
+        boolean finished;
+        try {
+            finished = executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+        if (!finished) {
+            executor.shutdownNow();
+            log.warn("Specification warm-up timed out after {}; {} of {} specifications compiled",
+                    timeout, compileTimes.size(), specifications.size());
+        }
+
+        return finish(finished ? STATUS_COMPLETED : STATUS_TIMED_OUT, startedAt, startNanos,
+                specifications.size(), new ArrayList<>(compileTimes));
+    }
+
+    private SpecificationCompileTime compile(OpenAPISpecification specification) {
+        long startNanos = System.nanoTime();
+        CompiledSpecification compiled = null;
+        String failureMessage = null;
+        try {
+            compiled = validationEngine.warmUp(specification);
+            if (compiled == null) {
+                failureMessage = "Failed to parse OpenAPI specification";
+            }
+        } catch (RuntimeException e) {
+            failureMessage = e.getMessage();
+        }
+        long compileMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        if (compiled != null) {
+            log.info("Compiled specification {} ({}) in {} ms",
+                    specification.getApiIdentifier(), specification.getId(), compileMillis);
+        } else {
+            log.warn("Failed to compile specification {} ({}) in {} ms: {}",
+                    specification.getApiIdentifier(), specification.getId(), compileMillis, failureMessage);
+        }
+
+        // The compiled weight is the length of the content it was read from, so the stored
+        // original does not have to be decompressed just to be measured
+        return SpecificationCompileTime.builder()
+                .specificationId(specification.getId())
+                .apiIdentifier(specification.getApiIdentifier())
+                .version(specification.getVersion())
+                .contentLength(compiled != null ? compiled.getWeight() : 0)
+                .compileMillis(compileMillis)
+                .compiled(compiled != null)
+                .failureMessage(failureMessage)
+                .build();
+    }
+
+    private WarmUpReportResponse finish(String status, LocalDateTime startedAt, long startNanos, int total,
+                                        List<SpecificationCompileTime> compileTimes) {
+        compileTimes.sort(Comparator.comparingLong(SpecificationCompileTime::getCompileMillis).reversed());
+        int compiledCount = (int) compileTimes.stream().filter(SpecificationCompileTime::isCompiled).count();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        log.info("Specification warm-up {}: {} compiled, {} failed of {} in {} ms",
+                status, compiledCount, compileTimes.size() - compiledCount, total, elapsedMillis);
+
+        return WarmUpReportResponse.builder()
+                .status(status)
+                .parallelism(parallelism)
+                .total(total)
+                .compiledCount(compiledCount)
+                .failedCount(compileTimes.size() - compiledCount)
+                .elapsedMillis(elapsedMillis)
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .specifications(compileTimes)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,27 +1,39 @@
 package com.fnb.apierrorlogger.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.exception.SpecificationChangedException;
+import com.fnb.apierrorlogger.exception.SpecificationParseTimeoutException;
+import com.fnb.apierrorlogger.exception.SpecificationParserBusyException;
 import com.fnb.apierrorlogger.model.ErrorRequest;
 import com.fnb.apierrorlogger.model.OpenAPISpecification;
 import com.fnb.apierrorlogger.model.ValidationError;
 import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.repository.SpecificationReference;
+import com.fnb.apierrorlogger.service.validation.CompiledPath;
+import com.fnb.apierrorlogger.service.validation.CompiledSpecification;
+import com.fnb.apierrorlogger.service.validation.HttpMethods;
+import com.fnb.apierrorlogger.service.validation.OperationValidator;
+import com.fnb.apierrorlogger.service.validation.RouteMatch;
+import com.fnb.apierrorlogger.service.validation.SpecificationCompiler;
+import com.fnb.apierrorlogger.service.validation.ValidationSettings;
+import com.fnb.apierrorlogger.service.validation.ValidationTimings;
+import com.fnb.apierrorlogger.service.validation.schema.ValidationBudget;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.media.Content;
-import io.swagger.v3.oas.models.media.MediaType;
-import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.oas.models.parameters.Parameter;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
 
 /**
  * Service for validating error requests against OpenAPI specifications.
@@ -29,303 +41,480 @@ import java.util.Map;
  * Requirements: 2.1, 2.2, 2.3, 2.4, 2.6
  */
 @Service
-@RequiredArgsConstructor
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
 @Slf4j
 public class ValidationEngine {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+    private final SpecificationCompiler specificationCompiler = new SpecificationCompiler(objectMapper);
+    private final SpecificationCache specificationCache;
+    private final ValidationSettings validationSettings;
+    private final ValidationResultCache resultCache;
+    private final ValidationMetrics validationMetrics;
+    private final SpecificationParser specificationParser;
+    private final CompiledSpecificationRegistry specificationRegistry;
+
+    /**
+     * Create an engine with its own caches, registry and parser pool, default settings and
+     * in-memory metrics, for use outside the Spring context.
+     */
+    public ValidationEngine() {
+        this(new SpecificationCache(SpecificationCache.DEFAULT_MAX_WEIGHT), ValidationSettings.defaults(),
+                new ValidationResultCache(ValidationResultCache.DEFAULT_MAX_ENTRIES,
+                        ValidationResultCache.DEFAULT_TIME_TO_LIVE),
+                ValidationMetrics.inMemory(), SpecificationParser.defaults(),
+                new CompiledSpecificationRegistry(CompiledSpecificationRegistry.DEFAULT_RETAINED_VERSIONS));
+    }
 
     /**
      * Validate an error request against its OpenAPI specification.
+     * Stored specifications are validated against the version that was active at the request's
+     * timestamp, as long as that version is still retained by the registry.
      * 
      * @param errorRequest The error request to validate
-     * @param specification The OpenAPI specification to validate against (can be null)
+     * @param specification The current OpenAPI specification (can be null)
      * @return ValidationResult with detailed errors
      * 
      * Requirements: 2.1, 2.2, 2.3, 2.4, 2.6
      */
     public ValidationResult validateRequest(ErrorRequest errorRequest, OpenAPISpecification specification) {
+        return validateRequest(errorRequest, specification, () -> specification);
+    }
+
+    /**
+     * Validate an error request against the stored specification a reference names.
+     * The specification's content is only loaded if the compiled form of that version is held
+     * by neither the registry nor the specification cache.
+     * 
+     * @param errorRequest The error request to validate
+     * @param reference The current version of the OpenAPI specification (can be null)
+     * @param loader Loads the stored specification, returning null if it no longer exists
+     * @return ValidationResult with detailed errors
+     */
+    public ValidationResult validateRequest(ErrorRequest errorRequest, SpecificationReference reference,
+                                            Supplier<OpenAPISpecification> loader) {
+        if (reference == null) {
+            return validateRequest(errorRequest, (OpenAPISpecification) null);
+        }
+        // Carries only what the registry and cache are keyed by; the loader supplies the content
+        OpenAPISpecification specification = OpenAPISpecification.builder()
+                .id(reference.id())
+                .apiIdentifier(reference.apiIdentifier())
+                .version(reference.version())
+                .updatedAt(reference.updatedAt())
+                .contentDigest(reference.contentDigest())
+                .build();
+        return validateRequest(errorRequest, specification, () -> load(reference, loader));
+    }
+
+    /**
+     * @param content Supplies the specification with its content, called only to compile it
+     */
+    private ValidationResult validateRequest(ErrorRequest errorRequest, OpenAPISpecification specification,
+                                             Supplier<OpenAPISpecification> content) {
         log.info("Validating error request for endpoint: {}", errorRequest.getApiEndpoint());
+        long startNanos = System.nanoTime();
         
         // Handle missing OpenAPI specification case (Requirement 2.6)
         if (specification == null) {
             log.warn("OpenAPI specification not found for error request");
-            ValidationError error = ValidationError.builder()
-                    .field("openApiSpecification")
-                    .message("OpenAPI specification not found - unable to validate")
-                    .build();
-            return ValidationResult.failure(List.of(error));
+            return recorded(null, specificationNotFound(), ValidationMetrics.OUTCOME_FAILED, false, startNanos, null);
         }
+        String apiIdentifier = specification.getApiIdentifier();
         
+        ValidationTimings timings = new ValidationTimings();
         try {
-            // Parse the OpenAPI specification
-            SwaggerParseResult parseResult = parser.readContents(specification.getSpecContent(), null, null);
-            OpenAPI openAPI = parseResult.getOpenAPI();
+            // Pick the specification version that was active when the request was logged
+            SpecificationVersion version = resolveVersion(specification, content, errorRequest.getTimestamp(), timings);
             
-            if (openAPI == null) {
+            if (version == null) {
                 log.error("Failed to parse OpenAPI specification");
-                ValidationError error = ValidationError.builder()
-                        .field("openApiSpecification")
-                        .message("Failed to parse OpenAPI specification")
-                        .build();
-                return ValidationResult.failure(List.of(error));
+                return recorded(apiIdentifier, specificationUnparseable(), ValidationMetrics.OUTCOME_FAILED,
+                        false, startNanos, timings);
             }
             
-            ValidationResult result = ValidationResult.builder()
-                    .isValid(true)
-                    .build();
-            
-            // Validate HTTP method is allowed for endpoint (Requirement 2.3)
-            validateHttpMethod(errorRequest, openAPI, result);
-            
-            // Validate required parameters are present (Requirement 2.4)
-            validateRequiredParameters(errorRequest, openAPI, result);
+            // Reuse the result of an identical earlier submission against the same specification version;
+            // the key digests the payload and response body, so it is built once for the lookup and the store
+            ValidationResultCache.ResultKey resultKey = resultCache.key(errorRequest, version);
+            ValidationResult cached = resultCache.get(resultKey);
+            if (cached != null) {
+                log.info("Reusing cached validation result. Valid: {}, Errors: {}", cached.isValid(), cached.getErrors().size());
+                return recorded(apiIdentifier, cached, ValidationMetrics.outcomeOf(cached.isValid()), true, startNanos, timings);
+            }
             
-            // Validate request payload against schema (Requirement 2.2)
-            validateRequestPayload(errorRequest, openAPI, result);
+            ValidationResult result = validateOperation(errorRequest, version.getCompiled(), timings);
+            if (isCacheable(result)) {
+                resultCache.put(resultKey, result);
+            }
             
             log.info("Validation completed. Valid: {}, Errors: {}", result.isValid(), result.getErrors().size());
             
-            return result;
+            return recorded(apiIdentifier, result, ValidationMetrics.outcomeOf(result.isValid()), false, startNanos, timings);
             
+        } catch (SpecificationParserBusyException | SpecificationParseTimeoutException
+                 | SpecificationChangedException e) {
+            log.warn("Validation deferred: {}", e.getMessage());
+            return recorded(apiIdentifier, validationDeferred(e), ValidationMetrics.OUTCOME_ERROR, false, startNanos, timings);
         } catch (Exception e) {
             log.error("Error during validation: {}", e.getMessage(), e);
-            ValidationError error = ValidationError.builder()
-                    .field("validation")
-                    .message("Validation error: " + e.getMessage())
-                    .build();
-            return ValidationResult.failure(List.of(error));
+            return recorded(apiIdentifier, validationFailure(e), ValidationMetrics.OUTCOME_ERROR, false, startNanos, timings);
         }
     }
 
     /**
-     * Validate that the HTTP method is valid for the endpoint.
-     * Requirement 2.3
+     * Validate a batch of error requests against one OpenAPI specification.
+     * The specification is resolved once and the requests are validated in parallel
+     * on the fork-join pool. Every request is validated against the given version regardless
+     * of its timestamp, which is what revalidation after a spec update relies on.
+     * 
+     * @param errorRequests The error requests to validate
+     * @param specification The OpenAPI specification to validate against (can be null)
+     * @return One result per error request, in the same order as the input
      */
-    private void validateHttpMethod(ErrorRequest errorRequest, OpenAPI openAPI, ValidationResult result) {
-        String endpoint = errorRequest.getApiEndpoint();
-        String method = errorRequest.getHttpMethod().toLowerCase();
-        
-        PathItem pathItem = findPathItem(openAPI, endpoint);
+    public List<ValidationResult> validateBatch(List<ErrorRequest> errorRequests, OpenAPISpecification specification) {
+        log.info("Validating batch of {} error requests", errorRequests.size());
         
-        if (pathItem == null) {
-            result.addError(ValidationError.builder()
-                    .field("apiEndpoint")
-                    .message("Endpoint not found in OpenAPI specification")
-                    .expectedType("valid endpoint")
-                    .actualValue(endpoint)
-                    .build());
-            return;
+        if (specification == null) {
+            log.warn("OpenAPI specification not found for error request batch");
+            return fill(errorRequests.size(), this::specificationNotFound);
         }
         
-        Operation operation = getOperationForMethod(pathItem, method);
+        SpecificationVersion version;
+        try {
+            version = publish(specification, new ValidationTimings());
+        } catch (SpecificationParserBusyException | SpecificationParseTimeoutException e) {
+            log.warn("Batch validation deferred: {}", e.getMessage());
+            return fill(errorRequests.size(), () -> validationDeferred(e));
+        } catch (Exception e) {
+            log.error("Error during batch validation: {}", e.getMessage(), e);
+            return fill(errorRequests.size(), () -> validationFailure(e));
+        }
         
-        if (operation == null) {
-            List<String> allowedMethods = getAllowedMethods(pathItem);
-            result.addError(ValidationError.builder()
-                    .field("httpMethod")
-                    .message("HTTP method not allowed for this endpoint")
-                    .expectedType("one of: " + String.join(", ", allowedMethods))
-                    .actualValue(method.toUpperCase())
-                    .build());
+        if (version == null) {
+            log.error("Failed to parse OpenAPI specification");
+            return fill(errorRequests.size(), this::specificationUnparseable);
         }
+        
+        ValidationResult[] results = new ValidationResult[errorRequests.size()];
+        ForkJoinPool.commonPool().invoke(new BatchValidationTask(
+                errorRequests, specification.getApiIdentifier(), version.getCompiled(), results, 0, results.length));
+        
+        log.info("Batch validation completed for {} error requests", results.length);
+        
+        return Arrays.asList(results);
     }
 
     /**
-     * Validate that required parameters are present.
-     * Requirement 2.4
+     * Parse and compile a specification ahead of its first validation, so the cost is not paid
+     * by the first error request that references it.
+     * 
+     * @param specification The specification to compile
+     * @return The compiled specification, or null if its content could not be parsed
      */
-    private void validateRequiredParameters(ErrorRequest errorRequest, OpenAPI openAPI, ValidationResult result) {
-        String endpoint = errorRequest.getApiEndpoint();
-        String method = errorRequest.getHttpMethod().toLowerCase();
-        
-        PathItem pathItem = findPathItem(openAPI, endpoint);
-        if (pathItem == null) {
-            return; // Already reported in method validation
+    public CompiledSpecification warmUp(OpenAPISpecification specification) {
+        SpecificationVersion version = publish(specification, new ValidationTimings());
+        return version != null ? version.getCompiled() : null;
+    }
+
+    /**
+     * Find the version of a specification that was active at a given time, compiling and
+     * registering the given version first if the registry does not hold it yet.
+     * 
+     * @return The version, or null if the given specification could not be parsed
+     */
+    private SpecificationVersion resolveVersion(OpenAPISpecification specification,
+                                                Supplier<OpenAPISpecification> content, LocalDateTime timestamp,
+                                                ValidationTimings timings) {
+        UUID specificationId = specification.getId();
+        if (specificationId == null) {
+            // Not stored yet, so there is no history to choose from
+            return publish(specification, content, timings);
         }
-        
-        Operation operation = getOperationForMethod(pathItem, method);
-        if (operation == null) {
-            return; // Already reported in method validation
+        SpecificationVersion published = null;
+        if (specificationRegistry.find(specificationId, specification.getUpdatedAt()) == null) {
+            published = publish(specification, content, timings);
+            if (published == null) {
+                return null;
+            }
         }
-        
-        List<Parameter> parameters = operation.getParameters();
-        if (parameters == null || parameters.isEmpty()) {
-            return; // No required parameters
+        SpecificationVersion resolved = specificationRegistry.resolve(specificationId, timestamp);
+        if (resolved != null) {
+            return resolved;
         }
-        
-        // Check for required parameters
-        for (Parameter parameter : parameters) {
-            if (Boolean.TRUE.equals(parameter.getRequired())) {
-                // For simplicity, we'll add a warning if required parameters exist
-                // In a real implementation, we'd parse the request to check for these
-                result.addWarning("Required parameter '" + parameter.getName() + "' should be present");
-            }
+        // Dropped from the registry by a concurrent publish to stay within its weight budget
+        return published != null ? published : publish(specification, content, timings);
+    }
+
+    /**
+     * Compile a specification, reusing the cached model for this version, and register it.
+     * 
+     * @return The registered version, or null if the content could not be parsed
+     */
+    private SpecificationVersion publish(OpenAPISpecification specification, ValidationTimings timings) {
+        return publish(specification, () -> specification, timings);
+    }
+
+    private SpecificationVersion publish(OpenAPISpecification specification, Supplier<OpenAPISpecification> content,
+                                         ValidationTimings timings) {
+        CompiledSpecification compiled = specificationCache.get(specification, spec -> compile(content.get(), timings));
+        if (compiled == null || compiled.getOpenAPI() == null) {
+            return null;
         }
+        SpecificationVersion version = new SpecificationVersion(specification.getId(), specification.getVersion(),
+                specification.getUpdatedAt(), compiled);
+        if (specification.getId() != null) {
+            specificationRegistry.publish(version);
+        }
+        return version;
     }
 
     /**
-     * Validate request payload against OpenAPI schema.
-     * Requirement 2.2
+     * Validate an error request against an already compiled specification.
      */
-    private void validateRequestPayload(ErrorRequest errorRequest, OpenAPI openAPI, ValidationResult result) {
-        String endpoint = errorRequest.getApiEndpoint();
-        String method = errorRequest.getHttpMethod().toLowerCase();
-        String requestPayload = errorRequest.getRequestPayload();
-        
-        // Skip validation if no payload
-        if (requestPayload == null || requestPayload.trim().isEmpty()) {
-            return;
+    private ValidationResult validateCompiled(ErrorRequest errorRequest, String apiIdentifier,
+                                              CompiledSpecification compiled) {
+        long startNanos = System.nanoTime();
+        ValidationTimings timings = new ValidationTimings();
+        try {
+            ValidationResult result = validateOperation(errorRequest, compiled, timings);
+            return recorded(apiIdentifier, result, ValidationMetrics.outcomeOf(result.isValid()), false, startNanos, timings);
+        } catch (Exception e) {
+            log.error("Error during validation: {}", e.getMessage(), e);
+            return recorded(apiIdentifier, validationFailure(e), ValidationMetrics.OUTCOME_ERROR, false, startNanos, timings);
         }
+    }
+
+    private ValidationResult validateOperation(ErrorRequest errorRequest, CompiledSpecification compiled,
+                                               ValidationTimings timings) {
+        ValidationResult result = ValidationResult.builder()
+                .isValid(true)
+                .build();
         
-        PathItem pathItem = findPathItem(openAPI, endpoint);
-        if (pathItem == null) {
-            return; // Already reported in method validation
-        }
+        // Resolve the endpoint once, past any host, server base path or gateway prefix,
+        // and look up the precompiled plan for the operation
+        long start = System.nanoTime();
+        RouteMatch match = compiled.getRouter().match(errorRequest.getApiEndpoint());
+        CompiledPath path = match != null ? match.getPath() : null;
+        int methodIndex = HttpMethods.indexOf(errorRequest.getHttpMethod());
         
-        Operation operation = getOperationForMethod(pathItem, method);
-        if (operation == null) {
-            return; // Already reported in method validation
-        }
+        // Validate HTTP method is allowed for endpoint (Requirement 2.3)
+        validateHttpMethod(errorRequest, path, methodIndex, result);
+        timings.record(ValidationTimings.Phase.ROUTE, start);
         
-        // Check if operation expects a request body
-        if (operation.getRequestBody() == null) {
-            result.addWarning("Request body provided but not expected by OpenAPI specification");
-            return;
+        // Validate parameters and payload against the operation (Requirements 2.2, 2.4)
+        OperationValidator operation = path != null ? path.operation(methodIndex) : null;
+        if (operation != null) {
+            operation.validate(errorRequest, match.getEndpoint(), result, validationSettings, timings);
         }
         
-        // Validate payload is valid JSON
+        return result;
+    }
+
+    /**
+     * Publish the timings of a finished validation and hand back its result.
+     */
+    private ValidationResult recorded(String apiIdentifier, ValidationResult result, String outcome, boolean cached,
+                                      long startNanos, ValidationTimings timings) {
+        validationMetrics.record(apiIdentifier, outcome, cached, System.nanoTime() - startNanos, timings);
+        return result;
+    }
+
+    /**
+     * Results cut short by the time limit depend on load as well as input, so they are not reused;
+     * the depth, node, size and error-count limits depend on the input alone.
+     * The payload and the response body are checked against budgets of their own, so either may have run out.
+     */
+    private static boolean isCacheable(ValidationResult result) {
+        return !hasTimeLimitError(result.getErrors()) && !hasTimeLimitError(result.getResponseErrors());
+    }
+
+    private static boolean hasTimeLimitError(List<ValidationError> errors) {
+        for (ValidationError error : errors) {
+            if (ValidationBudget.isTimeLimitError(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Load a specification into its compiled form. The resolved form stored at upload is read
+     * directly; the original text is only parsed, on the parser's validation lane, when there is none.
+     * Called by the specification cache on a miss.
+     * 
+     * @param timings Receives the time spent loading and compiling
+     * @return The compiled specification, or null if the content could not be parsed
+     */
+    private CompiledSpecification compile(OpenAPISpecification specification, ValidationTimings timings) {
+        long start = System.nanoTime();
         try {
-            JsonNode payloadNode = objectMapper.readTree(requestPayload);
-            
-            // Get the schema for the request body
-            Content content = operation.getRequestBody().getContent();
-            if (content != null) {
-                MediaType mediaType = content.get("application/json");
-                if (mediaType != null && mediaType.getSchema() != null) {
-                    Schema schema = mediaType.getSchema();
-                    validateJsonAgainstSchema(payloadNode, schema, result);
+            // The compressed original is only decompressed when it has to be parsed
+            OpenAPI openAPI = readResolved(specification);
+            int weight;
+            if (openAPI != null) {
+                weight = specification.getResolvedContent().length();
+            } else {
+                String specContent = specification.getSpecContent();
+                if (specContent == null) {
+                    log.warn("Specification {} has no stored content to parse", specification.getId());
+                    return null;
                 }
+                SwaggerParseResult parseResult = specificationParser.parseForValidation(specContent, null);
+                openAPI = parseResult.getOpenAPI();
+                weight = specContent.length();
             }
             
-        } catch (Exception e) {
-            result.addError(ValidationError.builder()
-                    .field("requestPayload")
-                    .message("Invalid JSON payload: " + e.getMessage())
-                    .expectedType("valid JSON")
-                    .actualValue(requestPayload)
-                    .build());
+            if (openAPI == null) {
+                return null;
+            }
+            
+            return specificationCompiler.compile(openAPI, weight, validationSettings.getGatewayPrefixes());
+        } finally {
+            timings.record(ValidationTimings.Phase.PARSE, start);
         }
     }
 
     /**
-     * Validate JSON payload against OpenAPI schema.
-     * This is a simplified validation - a full implementation would use a JSON schema validator.
+     * Load the stored specification a reference names, for compiling it.
+     * 
+     * @throws SpecificationChangedException if it was updated or deleted since the reference was taken,
+     *                                       so its content is not cached under the old version
      */
-    private void validateJsonAgainstSchema(JsonNode payload, Schema schema, ValidationResult result) {
-        // Simplified schema validation
-        // In a production system, use a proper JSON schema validator library
-        
-        if (schema.getRequired() != null && !schema.getRequired().isEmpty()) {
-            for (String requiredField : schema.getRequired()) {
-                if (!payload.has(requiredField)) {
-                    result.addError(ValidationError.builder()
-                            .field("requestPayload." + requiredField)
-                            .message("Required field missing")
-                            .expectedType("required")
-                            .actualValue("missing")
-                            .build());
-                }
-            }
+    private static OpenAPISpecification load(SpecificationReference reference, Supplier<OpenAPISpecification> loader) {
+        OpenAPISpecification specification = loader.get();
+        if (specification == null || !Objects.equals(specification.getUpdatedAt(), reference.updatedAt())) {
+            throw new SpecificationChangedException("Specification for API " + reference.apiIdentifier()
+                    + " changed while it was being loaded");
         }
+        return specification;
     }
 
     /**
-     * Find the PathItem for a given endpoint.
-     * Handles exact matches and path parameters.
+     * @return The specification read from its stored resolved form, or null if it has none usable
      */
-    private PathItem findPathItem(OpenAPI openAPI, String endpoint) {
-        if (openAPI.getPaths() == null) {
+    private OpenAPI readResolved(OpenAPISpecification specification) {
+        String resolvedContent = specification.getResolvedContent();
+        if (resolvedContent == null) {
             return null;
         }
-        
-        // Try exact match first
-        PathItem pathItem = openAPI.getPaths().get(endpoint);
-        if (pathItem != null) {
-            return pathItem;
-        }
-        
-        // Try to match with path parameters (e.g., /users/{id})
-        for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
-            String pathPattern = entry.getKey();
-            if (matchesPathPattern(endpoint, pathPattern)) {
-                return entry.getValue();
-            }
+        try {
+            return ResolvedSpecificationCodec.read(resolvedContent);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable resolved form of specification {}: {}", specification.getId(), e.getMessage());
+            return null;
         }
-        
-        return null;
+    }
+
+    private ValidationResult specificationNotFound() {
+        ValidationError error = ValidationError.builder()
+                .field("openApiSpecification")
+                .message("OpenAPI specification not found - unable to validate")
+                .build();
+        return ValidationResult.failure(new ArrayList<>(List.of(error)));
+    }
+
+    private ValidationResult specificationUnparseable() {
+        ValidationError error = ValidationError.builder()
+                .field("openApiSpecification")
+                .message("Failed to parse OpenAPI specification")
+                .build();
+        return ValidationResult.failure(new ArrayList<>(List.of(error)));
     }
 
     /**
-     * Check if an endpoint matches a path pattern with parameters.
+     * Result for a request that could not be validated yet because the specification could not
+     * be parsed in time, or changed while it was being loaded. Marked retryable so it is not
+     * stored as failed.
      */
-    private boolean matchesPathPattern(String endpoint, String pattern) {
-        // Simple pattern matching for path parameters
-        // e.g., /users/123 matches /users/{id}
-        String[] endpointParts = endpoint.split("/");
-        String[] patternParts = pattern.split("/");
-        
-        if (endpointParts.length != patternParts.length) {
-            return false;
-        }
-        
-        for (int i = 0; i < patternParts.length; i++) {
-            String patternPart = patternParts[i];
-            String endpointPart = endpointParts[i];
-            
-            // Skip parameter placeholders
-            if (patternPart.startsWith("{") && patternPart.endsWith("}")) {
-                continue;
-            }
-            
-            // Must match exactly
-            if (!patternPart.equals(endpointPart)) {
-                return false;
-            }
+    private ValidationResult validationDeferred(Exception e) {
+        ValidationError error = ValidationError.builder()
+                .field("openApiSpecification")
+                .message("Validation deferred: " + e.getMessage())
+                .build();
+        ValidationResult result = ValidationResult.failure(new ArrayList<>(List.of(error)));
+        result.setRetryable(true);
+        return result;
+    }
+
+    private ValidationResult validationFailure(Exception e) {
+        ValidationError error = ValidationError.builder()
+                .field("validation")
+                .message("Validation error: " + e.getMessage())
+                .build();
+        return ValidationResult.failure(new ArrayList<>(List.of(error)));
+    }
+
+    private static List<ValidationResult> fill(int size, Supplier<ValidationResult> result) {
+        List<ValidationResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(result.get());
         }
-        
-        return true;
+        return results;
     }
 
     /**
-     * Get the Operation for a specific HTTP method.
+     * Validate that the HTTP method is valid for the endpoint.
+     * Requirement 2.3
      */
-    private Operation getOperationForMethod(PathItem pathItem, String method) {
-        return switch (method.toLowerCase()) {
-            case "get" -> pathItem.getGet();
-            case "post" -> pathItem.getPost();
-            case "put" -> pathItem.getPut();
-            case "delete" -> pathItem.getDelete();
-            case "patch" -> pathItem.getPatch();
-            case "head" -> pathItem.getHead();
-            case "options" -> pathItem.getOptions();
-            default -> null;
-        };
+    private void validateHttpMethod(ErrorRequest errorRequest, CompiledPath path, int methodIndex,
+                                    ValidationResult result) {
+        if (path == null) {
+            result.addError(ValidationError.builder()
+                    .field("apiEndpoint")
+                    .message("Endpoint not found in OpenAPI specification")
+                    .expectedType("valid endpoint")
+                    .actualValue(errorRequest.getApiEndpoint())
+                    .build());
+            return;
+        }
+        
+        if (!path.allows(methodIndex)) {
+            List<String> allowedMethods = HttpMethods.names(path.getAllowedMethods());
+            result.addError(ValidationError.builder()
+                    .field("httpMethod")
+                    .message("HTTP method not allowed for this endpoint")
+                    .expectedType("one of: " + String.join(", ", allowedMethods))
+                    .actualValue(errorRequest.getHttpMethod().toUpperCase())
+                    .build());
+        }
     }
 
     /**
-     * Get list of allowed HTTP methods for a path.
+     * Validates a range of a batch, splitting it in half until it is small enough to run directly.
+     * Each result is written to the slot matching its request so input order is preserved.
      */
-    private List<String> getAllowedMethods(PathItem pathItem) {
-        List<String> methods = new ArrayList<>();
-        if (pathItem.getGet() != null) methods.add("GET");
-        if (pathItem.getPost() != null) methods.add("POST");
-        if (pathItem.getPut() != null) methods.add("PUT");
-        if (pathItem.getDelete() != null) methods.add("DELETE");
-        if (pathItem.getPatch() != null) methods.add("PATCH");
-        if (pathItem.getHead() != null) methods.add("HEAD");
-        if (pathItem.getOptions() != null) methods.add("OPTIONS");
-        return methods;
+    private final class BatchValidationTask extends RecursiveAction {
+
+        private static final int SPLIT_THRESHOLD = 16;
+
+        private final List<ErrorRequest> errorRequests;
+        private final String apiIdentifier;
+        private final CompiledSpecification compiled;
+        private final ValidationResult[] results;
+        private final int from;
+        private final int to;
+
+        private BatchValidationTask(List<ErrorRequest> errorRequests, String apiIdentifier,
+                                    CompiledSpecification compiled, ValidationResult[] results, int from, int to) {
+            this.errorRequests = errorRequests;
+            this.apiIdentifier = apiIdentifier;
+            this.compiled = compiled;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = validateCompiled(errorRequests.get(i), apiIdentifier, compiled);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BatchValidationTask(errorRequests, apiIdentifier, compiled, results, from, middle),
+                    new BatchValidationTask(errorRequests, apiIdentifier, compiled, results, middle, to));
+        }
     }
 }
@@ -0,0 +1,106 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.service.validation.ValidationTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes validation timings through Micrometer.
+ *
+ * {@code validation.requests} times whole validations and {@code validation.phase} times each
+ * phase (parse, route, parameter_check, payload_parse, schema_check). Both are tagged with the
+ * API identifier and the outcome, so slow validations can be traced to the phase and API
+ * responsible. Timer counts double as request counters.
+ *
+ * Timers are registered once per tag combination and kept, so recording a validation is a
+ * map lookup per timer rather than a builder and a registry lookup.
+ */
+@Component
+public class ValidationMetrics {
+
+    public static final String REQUESTS_METER = "validation.requests";
+    public static final String PHASE_METER = "validation.phase";
+
+    public static final String OUTCOME_PASSED = "passed";
+    public static final String OUTCOME_FAILED = "failed";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static final String UNKNOWN_API = "unknown";
+    private static final ValidationTimings.Phase[] PHASES = ValidationTimings.Phase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<RequestKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PhaseKey, Timer> phaseTimers = new ConcurrentHashMap<>();
+
+    public ValidationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Metrics kept in memory only, for use outside the Spring context.
+     */
+    public static ValidationMetrics inMemory() {
+        return new ValidationMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Record a finished validation.
+     *
+     * @param apiIdentifier The API the request was validated against, or null if unknown
+     * @param outcome One of {@link #OUTCOME_PASSED}, {@link #OUTCOME_FAILED} or {@link #OUTCOME_ERROR}
+     * @param cached Whether the result was reused from the result cache
+     * @param totalNanos Time taken by the whole validation
+     * @param timings Per-phase timings, or null if no phase ran
+     */
+    public void record(String apiIdentifier, String outcome, boolean cached, long totalNanos,
+                       ValidationTimings timings) {
+        String api = apiIdentifier != null ? apiIdentifier : UNKNOWN_API;
+
+        requestTimers.computeIfAbsent(new RequestKey(api, outcome, cached), this::requestTimer)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+
+        if (timings == null) {
+            return;
+        }
+        for (ValidationTimings.Phase phase : PHASES) {
+            if (timings.isRecorded(phase)) {
+                phaseTimers.computeIfAbsent(new PhaseKey(api, outcome, phase), this::phaseTimer)
+                        .record(timings.getNanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public static String outcomeOf(boolean valid) {
+        return valid ? OUTCOME_PASSED : OUTCOME_FAILED;
+    }
+
+    private Timer requestTimer(RequestKey key) {
+        return Timer.builder(REQUESTS_METER)
+                .description("Time taken to validate an error request")
+                .tag("apiIdentifier", key.apiIdentifier())
+                .tag("outcome", key.outcome())
+                .tag("cache", key.cached() ? "hit" : "miss")
+                .register(meterRegistry);
+    }
+
+    private Timer phaseTimer(PhaseKey key) {
+        return Timer.builder(PHASE_METER)
+                .description("Time taken by one phase of validating an error request")
+                .tag("phase", key.phase().getTag())
+                .tag("apiIdentifier", key.apiIdentifier())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+
+    private record RequestKey(String apiIdentifier, String outcome, boolean cached) {
+    }
+
+    private record PhaseKey(String apiIdentifier, String outcome, ValidationTimings.Phase phase) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.CacheStatsResponse;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded LRU cache of validation results for repeated submissions of the same request.
+ * Entries are keyed by specification ID and version, HTTP method, endpoint, response status and
+ * SHA-256 digests of the payload and response body, and expire after a fixed time to live.
+ * Results are copied on the way in and out, since callers are free to modify them.
+ */
+@Component
+@Slf4j
+public class ValidationResultCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+    private final LinkedHashMap<ResultKey, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Autowired
+    public ValidationResultCache(@Value("${app.validation.result-cache.max-entries:10000}") int maxEntries,
+                                 @Value("${app.validation.result-cache.ttl:PT10M}") Duration timeToLive) {
+        this(maxEntries, timeToLive, System::nanoTime);
+    }
+
+    ValidationResultCache(int maxEntries, Duration timeToLive, LongSupplier nanoTime) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Get the cached result for a request validated against a registered specification version.
+     *
+     * @return A copy of the cached result, or null on a miss
+     */
+    public ValidationResult get(ErrorRequest errorRequest, SpecificationVersion version) {
+        return get(key(errorRequest, version));
+    }
+
+    /**
+     * Build the key of a request validated against a specification version. The payload and
+     * response body are digested here, so a caller that looks up and then stores a result
+     * should build the key once and pass it to both.
+     *
+     * @return The key, or null if results for this version are not cached
+     */
+    public ResultKey key(ErrorRequest errorRequest, SpecificationVersion version) {
+        return keyOf(errorRequest, version.getSpecificationId(), version.getVersion(), version.getUpdatedAt());
+    }
+
+    /**
+     * Get the cached result for a key built by {@link #key}.
+     *
+     * @return A copy of the cached result, or null on a miss or a null key
+     */
+    public ValidationResult get(ResultKey key) {
+        if (key == null) {
+            return null;
+        }
+
+        CachedResult cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && cached.expiresAt() - nanoTime.getAsLong() <= 0) {
+                entries.remove(key);
+                expirations.increment();
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(cached.result());
+    }
+
+    /**
+     * Store the result of validating a request against a registered specification version.
+     * Versions of specifications that have not been persisted yet are not cached.
+     */
+    public void put(ErrorRequest errorRequest, SpecificationVersion version, ValidationResult result) {
+        put(key(errorRequest, version), result);
+    }
+
+    /**
+     * Store a result under a key built by {@link #key}; a null key stores nothing.
+     */
+    public void put(ResultKey key, ValidationResult result) {
+        if (key == null) {
+            return;
+        }
+
+        CachedResult value = new CachedResult(copy(result), nanoTime.getAsLong() + timeToLiveNanos);
+        synchronized (entries) {
+            entries.put(key, value);
+
+            // Access-ordered map: the first entry is the least recently used
+            Iterator<ResultKey> iterator = entries.keySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drop every cached result for a specification.
+     *
+     * @param specificationId The specification ID
+     */
+    public void invalidate(UUID specificationId) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.specificationId().equals(specificationId));
+        }
+        log.debug("Invalidated cached validation results for specification: {}", specificationId);
+    }
+
+    @EventListener
+    public void onSpecificationUpdated(SpecificationUpdatedEvent event) {
+        invalidate(event.getSpecificationId());
+    }
+
+    /**
+     * Get a snapshot of the cache statistics.
+     * Weights are counted in entries.
+     */
+    public CacheStatsResponse stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        synchronized (entries) {
+            return CacheStatsResponse.builder()
+                    .hitCount(hitCount)
+                    .missCount(missCount)
+                    .evictionCount(evictions.sum())
+                    .expirationCount(expirations.sum())
+                    .entryCount(entries.size())
+                    .totalWeight(entries.size())
+                    .maxWeight(maxEntries)
+                    .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+                    .build();
+        }
+    }
+
+    private ResultKey keyOf(ErrorRequest errorRequest, UUID specificationId, String version,
+                            LocalDateTime updatedAt) {
+        if (maxEntries <= 0 || specificationId == null) {
+            return null;
+        }
+        String method = errorRequest.getHttpMethod();
+        return new ResultKey(
+                specificationId,
+                version,
+                updatedAt,
+                method != null ? method.toUpperCase(Locale.ROOT) : null,
+                errorRequest.getApiEndpoint(),
+                digest(errorRequest.getRequestPayload()),
+                errorRequest.getResponseStatus(),
+                digest(errorRequest.getResponseBody()));
+    }
+
+    /**
+     * SHA-256 of a payload or body, so large documents are not held as part of the key.
+     */
+    static String digest(String payload) {
+        return payload != null ? ContentDigest.sha256(payload) : "";
+    }
+
+    private static ValidationResult copy(ValidationResult result) {
+        return ValidationResult.builder()
+                .isValid(result.isValid())
+                .errors(new ArrayList<>(result.getErrors()))
+                .warnings(new ArrayList<>(result.getWarnings()))
+                .responseValid(result.isResponseValid())
+                .responseErrors(new ArrayList<>(result.getResponseErrors()))
+                .build();
+    }
+
+    /**
+     * Identity of a validated request; payload and response body are held as digests.
+     */
+    public record ResultKey(UUID specificationId, String version, LocalDateTime updatedAt,
+                             String method, String endpoint, String payloadDigest,
+                             Integer responseStatus, String responseBodyDigest) {
+    }
+
+    private record CachedResult(ValidationResult result, long expiresAt) {
+    }
+}
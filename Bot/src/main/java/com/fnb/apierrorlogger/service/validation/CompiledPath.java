@@ -0,0 +1,54 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import io.swagger.v3.oas.models.PathItem;
+import lombok.Getter;
+
+/**
+ * A single path template from a specification, as resolved by the {@link PathRouter},
+ * together with the compiled validation plan of each operation it declares.
+ */
+@Getter
+public class CompiledPath {
+
+    private final String pattern;
+    private final PathItem pathItem;
+    private final int allowedMethods;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final OperationValidator[] operations;
+
+    /**
+     * @param pattern The path template, e.g. {@code /users/{id}}
+     * @param pathItem The path item from the specification
+     * @param operations Compiled operations indexed by {@link HttpMethods} index, null where undeclared
+     */
+    public CompiledPath(String pattern, PathItem pathItem, OperationValidator[] operations) {
+        this.pattern = pattern;
+        this.pathItem = pathItem;
+        this.operations = operations;
+
+        int mask = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (operations[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        this.allowedMethods = mask;
+    }
+
+    /**
+     * Check whether the path declares an operation for a method index.
+     */
+    public boolean allows(int methodIndex) {
+        return HttpMethods.isAllowed(allowedMethods, methodIndex);
+    }
+
+    /**
+     * Get the compiled operation for a method index.
+     *
+     * @return The operation, or null if the path does not declare the method
+     */
+    public OperationValidator operation(int methodIndex) {
+        return allows(methodIndex) ? operations[methodIndex] : null;
+    }
+}
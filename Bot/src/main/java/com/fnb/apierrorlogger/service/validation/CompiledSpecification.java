@@ -0,0 +1,23 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parsed form of an OpenAPI specification.
+ * Built once per specification version and shared by every validation that runs against it,
+ * so instances must not be modified after construction.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CompiledSpecification {
+
+    private final OpenAPI openAPI;
+    private final PathRouter router;
+
+    /**
+     * Approximate cost of keeping this specification in memory, used for cache weighting.
+     */
+    private final long weight;
+}
@@ -0,0 +1,89 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index and bitmask helpers for the HTTP methods an OpenAPI path item can declare.
+ * Method lookups are case-insensitive and do not allocate.
+ */
+public final class HttpMethods {
+
+    public static final int GET = 0;
+    public static final int POST = 1;
+    public static final int PUT = 2;
+    public static final int DELETE = 3;
+    public static final int PATCH = 4;
+    public static final int HEAD = 5;
+    public static final int OPTIONS = 6;
+    public static final int TRACE = 7;
+
+    public static final int COUNT = 8;
+
+    private static final String[] NAMES = {"GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "TRACE"};
+
+    private HttpMethods() {
+    }
+
+    /**
+     * Resolve an HTTP method name to its index.
+     *
+     * @param method The method name, in any case
+     * @return The method index, or -1 if the method is not one OpenAPI can describe
+     */
+    public static int indexOf(String method) {
+        if (method == null) {
+            return -1;
+        }
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equalsIgnoreCase(method)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static String name(int index) {
+        return NAMES[index];
+    }
+
+    /**
+     * Check whether a method index is set in a bitmask.
+     */
+    public static boolean isAllowed(int mask, int index) {
+        return index >= 0 && (mask & (1 << index)) != 0;
+    }
+
+    /**
+     * List the method names set in a bitmask, in declaration order.
+     */
+    public static List<String> names(int mask) {
+        List<String> methods = new ArrayList<>(Integer.bitCount(mask));
+        for (int i = 0; i < NAMES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                methods.add(NAMES[i]);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Get the operation a path item declares for a method index.
+     */
+    public static Operation operation(PathItem pathItem, int index) {
+        return switch (index) {
+            case GET -> pathItem.getGet();
+            case POST -> pathItem.getPost();
+            case PUT -> pathItem.getPut();
+            case DELETE -> pathItem.getDelete();
+            case PATCH -> pathItem.getPatch();
+            case HEAD -> pathItem.getHead();
+            case OPTIONS -> pathItem.getOptions();
+            case TRACE -> pathItem.getTrace();
+            default -> null;
+        };
+    }
+}
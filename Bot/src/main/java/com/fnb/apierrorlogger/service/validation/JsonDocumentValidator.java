@@ -0,0 +1,116 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.service.validation.schema.SchemaValidator;
+import com.fnb.apierrorlogger.service.validation.schema.ValidationBudget;
+import com.fnb.apierrorlogger.service.validation.schema.ValidationContext;
+
+/**
+ * Checks a JSON document held as a string, such as a request payload or response body,
+ * against a compiled schema within the configured validation budget.
+ */
+final class JsonDocumentValidator {
+
+    private final String field;
+    private final String description;
+    private final SchemaValidator validator;
+    private final ObjectMapper objectMapper;
+    private final ValidationTimings.Phase parsePhase;
+    private final ValidationTimings.Phase checkPhase;
+
+    /**
+     * @param field Root field name reported with errors, e.g. {@code requestPayload}
+     * @param description Name of the document used in messages, e.g. {@code payload}
+     * @param validator The compiled schema
+     * @param objectMapper Mapper used to parse the document
+     * @param parsePhase Phase the parse time is recorded under
+     * @param checkPhase Phase the schema check time is recorded under
+     */
+    JsonDocumentValidator(String field, String description, SchemaValidator validator, ObjectMapper objectMapper,
+                          ValidationTimings.Phase parsePhase, ValidationTimings.Phase checkPhase) {
+        this.field = field;
+        this.description = description;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.parsePhase = parsePhase;
+        this.checkPhase = checkPhase;
+    }
+
+    /**
+     * Validate a non-empty document.
+     * Requirements: 2.2, 7.3
+     */
+    void validate(String json, ValidationResult result, ValidationSettings settings, ValidationTimings timings) {
+        // Refuse documents too large to validate within budget before parsing them
+        ValidationBudget budget = settings.newBudget();
+        long maxBytes = settings.getMaxPayloadBytes();
+        if (json.length() * 3L > maxBytes) {
+            long documentBytes = utf8Length(json);
+            if (documentBytes > maxBytes) {
+                budget.exceedSize(maxBytes, documentBytes);
+                budget.reportTo(result, field, description);
+                return;
+            }
+        }
+
+        // Validate document is valid JSON
+        long start = System.nanoTime();
+        try {
+            ValidationContext context = new ValidationContext(field, result, budget);
+
+            if (json.length() >= settings.getStreamingThresholdBytes()) {
+                // Large documents are checked off the token stream so memory follows nesting depth
+                try (JsonParser parser = objectMapper.createParser(json)) {
+                    parser.nextToken();
+                    validator.validateValue(parser, context);
+                }
+                timings.record(checkPhase, start);
+            } else {
+                JsonNode node = objectMapper.readTree(json);
+                start = timings.record(parsePhase, start);
+                budget.checkTime();
+
+                // Run the document through the compiled schema tree
+                validator.validate(node, context);
+                timings.record(checkPhase, start);
+            }
+
+            budget.reportTo(result, field, description);
+
+        } catch (Exception e) {
+            timings.record(parsePhase, start);
+            result.addError(ValidationError.builder()
+                    .field(field)
+                    .message("Invalid JSON " + description + ": " + e.getMessage())
+                    .expectedType("valid JSON")
+                    .actualValue(json)
+                    .build());
+        }
+    }
+
+    /**
+     * Number of bytes in the UTF-8 encoding of a string, without encoding it.
+     */
+    private static long utf8Length(String text) {
+        long bytes = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
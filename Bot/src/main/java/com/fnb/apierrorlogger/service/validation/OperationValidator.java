@@ -0,0 +1,150 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.service.validation.schema.SchemaCompiler;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable validation plan for a single operation (path + HTTP method).
+ * Everything that can be derived from the specification is worked out when the plan is
+ * compiled, so validating a request only executes the prepared checks.
+ */
+public class OperationValidator {
+
+    @Getter
+    private final String method;
+    private final ParameterValidator parameterValidator;
+    private final boolean expectsBody;
+    private final JsonDocumentValidator bodyValidator;
+    private final ResponseValidator responseValidator;
+
+    private OperationValidator(String method, ParameterValidator parameterValidator, boolean expectsBody,
+                               JsonDocumentValidator bodyValidator, ResponseValidator responseValidator) {
+        this.method = method;
+        this.parameterValidator = parameterValidator;
+        this.expectsBody = expectsBody;
+        this.bodyValidator = bodyValidator;
+        this.responseValidator = responseValidator;
+    }
+
+    /**
+     * Compile the validation plan for an operation.
+     *
+     * @param method The HTTP method name
+     * @param pattern The path template the operation is declared under
+     * @param pathItem The path item declaring the operation, for path-level parameters
+     * @param operation The operation to compile
+     * @param componentResponses The specification's {@code components/responses}, may be null
+     * @param schemaCompiler Compiler for the specification's schemas
+     * @param objectMapper Mapper used to parse request payloads and response bodies
+     * @return The compiled plan
+     */
+    public static OperationValidator compile(String method, String pattern, PathItem pathItem, Operation operation,
+                                             Map<String, ApiResponse> componentResponses,
+                                             SchemaCompiler schemaCompiler, ObjectMapper objectMapper) {
+        ParameterValidator parameterValidator =
+                ParameterValidator.compile(pattern, effectiveParameters(pathItem, operation), schemaCompiler);
+
+        boolean expectsBody = operation.getRequestBody() != null;
+        Schema<?> bodySchema = expectsBody ? jsonSchema(operation.getRequestBody().getContent()) : null;
+        JsonDocumentValidator bodyValidator = new JsonDocumentValidator("requestPayload", "payload",
+                schemaCompiler.compile(bodySchema), objectMapper,
+                ValidationTimings.Phase.PAYLOAD_PARSE, ValidationTimings.Phase.SCHEMA_CHECK);
+        ResponseValidator responseValidator =
+                ResponseValidator.compile(operation.getResponses(), componentResponses, schemaCompiler, objectMapper);
+
+        return new OperationValidator(method, parameterValidator, expectsBody, bodyValidator, responseValidator);
+    }
+
+    /**
+     * Validate an error request against this operation.
+     * The logged response is checked too; its findings are recorded as response errors.
+     * Requirements: 2.2, 2.4
+     *
+     * @param endpoint The request endpoint relative to the specification's paths, as matched by the router
+     * @param timings Receives the time spent checking parameters, the payload and the response
+     */
+    public void validate(ErrorRequest errorRequest, String endpoint, ValidationResult result,
+                         ValidationSettings settings, ValidationTimings timings) {
+        long start = System.nanoTime();
+        parameterValidator.validate(endpoint, result);
+        timings.record(ValidationTimings.Phase.PARAMETER_CHECK, start);
+        validateRequestPayload(errorRequest.getRequestPayload(), result, settings, timings);
+        responseValidator.validate(errorRequest.getResponseStatus(), errorRequest.getResponseBody(),
+                result, settings, timings);
+    }
+
+    /**
+     * Validate request payload against OpenAPI schema, within the configured validation budget.
+     * Requirements: 2.2, 7.3
+     */
+    private void validateRequestPayload(String requestPayload, ValidationResult result, ValidationSettings settings,
+                                        ValidationTimings timings) {
+        // Skip validation if no payload
+        if (requestPayload == null || requestPayload.trim().isEmpty()) {
+            return;
+        }
+
+        // Check if operation expects a request body
+        if (!expectsBody) {
+            result.addWarning("Request body provided but not expected by OpenAPI specification");
+            return;
+        }
+
+        bodyValidator.validate(requestPayload, result, settings, timings);
+    }
+
+    /**
+     * Merge path-level and operation-level parameters.
+     * Operation parameters override path parameters with the same name and location.
+     */
+    static List<Parameter> effectiveParameters(PathItem pathItem, Operation operation) {
+        Map<String, Parameter> parameters = new LinkedHashMap<>();
+        if (pathItem.getParameters() != null) {
+            for (Parameter parameter : pathItem.getParameters()) {
+                parameters.put(parameter.getIn() + ":" + parameter.getName(), parameter);
+            }
+        }
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                parameters.put(parameter.getIn() + ":" + parameter.getName(), parameter);
+            }
+        }
+        return new ArrayList<>(parameters.values());
+    }
+
+    /**
+     * Select the JSON schema from a request or response content map.
+     * Prefers {@code application/json}, then any other JSON media type.
+     */
+    static Schema<?> jsonSchema(Content content) {
+        if (content == null || content.isEmpty()) {
+            return null;
+        }
+        MediaType mediaType = content.get("application/json");
+        if (mediaType == null) {
+            for (Map.Entry<String, MediaType> entry : content.entrySet()) {
+                String name = entry.getKey().toLowerCase();
+                if (name.startsWith("application/json") || name.contains("+json")) {
+                    mediaType = entry.getValue();
+                    break;
+                }
+            }
+        }
+        return mediaType != null ? mediaType.getSchema() : null;
+    }
+}
@@ -0,0 +1,296 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.service.validation.schema.ParameterChecker;
+import com.fnb.apierrorlogger.service.validation.schema.SchemaCompiler;
+import io.swagger.v3.oas.models.parameters.Parameter;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the path and query parameters of a request endpoint against an operation's parameters.
+ *
+ * The endpoint is scanned in place: path segments are located by index and bound to the template
+ * variable at the same position, and query pairs are matched against the declared names by region
+ * comparison. Only values of declared parameters are extracted and decoded.
+ * Header and cookie parameters are not captured with error requests, so required ones are
+ * reported as warnings instead of being checked.
+ */
+final class ParameterValidator {
+
+    private static final ParameterValidator NONE =
+            new ParameterValidator(new ParameterChecker[0], new String[0], new ParameterChecker[0], new boolean[0], List.of());
+
+    /**
+     * Checker for each non-empty path segment position, null where the segment is a literal.
+     */
+    private final ParameterChecker[] pathCheckers;
+    private final String[] queryNames;
+    private final ParameterChecker[] queryCheckers;
+    private final boolean[] queryRequired;
+    private final List<String> warnings;
+
+    private ParameterValidator(ParameterChecker[] pathCheckers, String[] queryNames, ParameterChecker[] queryCheckers,
+                               boolean[] queryRequired, List<String> warnings) {
+        this.pathCheckers = pathCheckers;
+        this.queryNames = queryNames;
+        this.queryCheckers = queryCheckers;
+        this.queryRequired = queryRequired;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Compile the parameter checks for an operation.
+     *
+     * @param pattern The path template, e.g. {@code /users/{id}}
+     * @param parameters The effective parameters of the operation
+     * @param schemaCompiler Compiler for the specification's schemas
+     */
+    static ParameterValidator compile(String pattern, List<Parameter> parameters, SchemaCompiler schemaCompiler) {
+        if (parameters.isEmpty()) {
+            return NONE;
+        }
+
+        Map<String, Integer> templatePositions = templatePositions(pattern);
+        ParameterChecker[] pathCheckers = new ParameterChecker[segmentCount(pattern)];
+        List<String> queryNames = new ArrayList<>();
+        List<ParameterChecker> queryCheckers = new ArrayList<>();
+        List<Boolean> queryRequired = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+
+        for (Parameter parameter : parameters) {
+            String name = parameter.getName();
+            String in = parameter.getIn();
+            if (name == null || in == null) {
+                continue;
+            }
+            boolean explode = !Boolean.FALSE.equals(parameter.getExplode());
+
+            switch (in) {
+                case "path" -> {
+                    Integer position = templatePositions.get(name);
+                    if (position != null) {
+                        pathCheckers[position] = schemaCompiler.compileParameter("path." + name, parameter.getSchema(), false);
+                    }
+                }
+                case "query" -> {
+                    queryNames.add(name);
+                    queryCheckers.add(schemaCompiler.compileParameter("query." + name, parameter.getSchema(), explode));
+                    queryRequired.add(Boolean.TRUE.equals(parameter.getRequired()));
+                }
+                default -> {
+                    if (Boolean.TRUE.equals(parameter.getRequired())) {
+                        warnings.add("Required " + in + " parameter '" + name
+                                + "' cannot be checked because request " + in + "s are not captured");
+                    }
+                }
+            }
+        }
+
+        boolean hasPathCheckers = false;
+        for (ParameterChecker checker : pathCheckers) {
+            hasPathCheckers |= checker != null;
+        }
+
+        boolean[] required = new boolean[queryRequired.size()];
+        for (int i = 0; i < required.length; i++) {
+            required[i] = queryRequired.get(i);
+        }
+        return new ParameterValidator(
+                hasPathCheckers ? pathCheckers : new ParameterChecker[0],
+                queryNames.toArray(new String[0]),
+                queryCheckers.toArray(new ParameterChecker[0]),
+                required,
+                List.copyOf(warnings));
+    }
+
+    /**
+     * Validate the parameters found in an endpoint.
+     * Requirement 2.4
+     *
+     * @param endpoint The request endpoint, including any query string
+     * @param result The result errors and warnings are added to
+     */
+    void validate(String endpoint, ValidationResult result) {
+        for (String warning : warnings) {
+            result.addWarning(warning);
+        }
+        if (endpoint == null) {
+            return;
+        }
+
+        int pathEnd = indexOfAny(endpoint, 0, '?', '#');
+        if (pathCheckers.length > 0) {
+            validatePath(endpoint, pathEnd, result);
+        }
+        if (queryNames.length > 0) {
+            int queryStart = pathEnd < endpoint.length() && endpoint.charAt(pathEnd) == '?' ? pathEnd + 1 : -1;
+            validateQuery(endpoint, queryStart, result);
+        }
+    }
+
+    private void validatePath(String endpoint, int pathEnd, ValidationResult result) {
+        int position = 0;
+        int pos = 0;
+        while (pos < pathEnd && position < pathCheckers.length) {
+            if (endpoint.charAt(pos) == '/') {
+                pos++;
+                continue;
+            }
+            int segmentEnd = indexOf(endpoint, '/', pos, pathEnd);
+            ParameterChecker checker = pathCheckers[position];
+            if (checker != null) {
+                checker.check(decode(endpoint.substring(pos, segmentEnd), false), result);
+            }
+            position++;
+            pos = segmentEnd;
+        }
+    }
+
+    private void validateQuery(String endpoint, int queryStart, ValidationResult result) {
+        // Values are kept as a String for the first occurrence and a List once a name repeats
+        Object[] values = new Object[queryNames.length];
+
+        if (queryStart >= 0) {
+            int queryEnd = indexOf(endpoint, '#', queryStart, endpoint.length());
+            int pos = queryStart;
+            while (pos < queryEnd) {
+                int pairEnd = indexOf(endpoint, '&', pos, queryEnd);
+                int equals = indexOf(endpoint, '=', pos, pairEnd);
+                int index = indexOfName(endpoint, pos, equals);
+                if (index >= 0) {
+                    String value = equals < pairEnd ? decode(endpoint.substring(equals + 1, pairEnd), true) : "";
+                    values[index] = append(values[index], value);
+                }
+                pos = pairEnd + 1;
+            }
+        }
+
+        for (int i = 0; i < queryNames.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                if (queryRequired[i]) {
+                    result.addError(ValidationError.builder()
+                            .field("query." + queryNames[i])
+                            .message("Required parameter missing")
+                            .expectedType("required")
+                            .actualValue("missing")
+                            .build());
+                }
+                continue;
+            }
+            ParameterChecker checker = queryCheckers[i];
+            if (checker == null) {
+                continue;
+            }
+            if (value instanceof String single) {
+                checker.check(single, result);
+            } else {
+                @SuppressWarnings("unchecked")
+                List<String> repeated = (List<String>) value;
+                checker.check(repeated, result);
+            }
+        }
+    }
+
+    /**
+     * Find the declared query parameter whose name occupies {@code endpoint[start, end)}.
+     */
+    private int indexOfName(String endpoint, int start, int end) {
+        int length = end - start;
+        boolean encoded = indexOfAny(endpoint, start, '%', '+', end) < end;
+        String decoded = encoded ? decode(endpoint.substring(start, end), true) : null;
+        for (int i = 0; i < queryNames.length; i++) {
+            String name = queryNames[i];
+            if (decoded != null ? name.equals(decoded)
+                    : name.length() == length && endpoint.regionMatches(start, name, 0, length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Object append(Object existing, String value) {
+        if (existing == null) {
+            return value;
+        }
+        if (existing instanceof String first) {
+            List<String> values = new ArrayList<>(4);
+            values.add(first);
+            values.add(value);
+            return values;
+        }
+        @SuppressWarnings("unchecked")
+        List<String> values = (List<String>) existing;
+        values.add(value);
+        return values;
+    }
+
+    /**
+     * Percent-decode a value; {@code +} means space only in query strings.
+     * Values that are not validly encoded are returned unchanged.
+     */
+    private static String decode(String value, boolean query) {
+        if (value.indexOf('%') < 0 && (!query || value.indexOf('+') < 0)) {
+            return value;
+        }
+        try {
+            return URLDecoder.decode(query ? value : value.replace("+", "%2B"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    private static int indexOfAny(String value, int from, char first, char second) {
+        return indexOfAny(value, from, first, second, value.length());
+    }
+
+    private static int indexOf(String value, char c, int from, int end) {
+        int index = value.indexOf(c, from);
+        return index < 0 || index > end ? end : index;
+    }
+
+    private static int indexOfAny(String value, int from, char first, char second, int end) {
+        for (int i = from; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == first || c == second) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Positions of the template segments of a path pattern, counting non-empty segments.
+     */
+    private static Map<String, Integer> templatePositions(String pattern) {
+        Map<String, Integer> positions = new HashMap<>();
+        int position = 0;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.length() >= 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+                positions.putIfAbsent(segment.substring(1, segment.length() - 1), position);
+            }
+            position++;
+        }
+        return positions;
+    }
+
+    private static int segmentCount(String pattern) {
+        int count = 0;
+        for (String segment : pattern.split("/")) {
+            if (!segment.isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,357 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Segment trie over the path templates of a specification.
+ * Resolving an endpoint walks one trie level per path segment, so the cost depends on
+ * the depth of the endpoint rather than the number of paths in the specification.
+ * Literal segments take precedence over template segments such as {@code {id}};
+ * a template branch is only tried when the literal branch does not lead to a match.
+ *
+ * Endpoints may also be logged as full URLs or behind a base path, such as a server URL path
+ * or an API gateway prefix. The scheme and host are skipped, and base paths are kept in a
+ * second trie that is walked once in front of the path trie, longest base path first. An
+ * endpoint that matches a path as logged is never stripped.
+ * Lookups allocate nothing beyond the returned match. Instances are immutable once built.
+ */
+public class PathRouter {
+
+    private final Node root = new Node();
+    private final Node basePaths = new Node();
+    private final int pathCount;
+
+    private PathRouter(Collection<CompiledPath> paths, Collection<String> basePaths) {
+        int count = 0;
+        for (CompiledPath path : paths) {
+            if (insert(path)) {
+                count++;
+            }
+        }
+        this.pathCount = count;
+        for (String basePath : basePaths) {
+            insertBasePath(basePath);
+        }
+    }
+
+    /**
+     * Build a router over the compiled paths of a specification.
+     *
+     * @param paths The compiled paths, in specification order
+     * @return The compiled router
+     */
+    public static PathRouter compile(Collection<CompiledPath> paths) {
+        return new PathRouter(paths, List.of());
+    }
+
+    /**
+     * Build a router over the compiled paths of a specification that also accepts endpoints
+     * logged behind one of the given base paths.
+     *
+     * @param paths The compiled paths, in specification order
+     * @param basePaths Base paths or URLs, e.g. {@code /v1} or {@code https://api.example.com/v1}
+     * @return The compiled router
+     */
+    public static PathRouter compile(Collection<CompiledPath> paths, Collection<String> basePaths) {
+        return new PathRouter(paths, basePaths);
+    }
+
+    /**
+     * Resolve an endpoint to the path template that describes it.
+     * Any query string or fragment on the endpoint is ignored, as are empty segments.
+     *
+     * @param endpoint The endpoint path or URL, e.g. {@code /users/123}
+     * @return The matching path, or null if no template matches
+     */
+    public CompiledPath route(String endpoint) {
+        RouteMatch match = match(endpoint);
+        return match != null ? match.getPath() : null;
+    }
+
+    /**
+     * Resolve an endpoint to the path template that describes it, together with the part of
+     * the endpoint that the template describes.
+     *
+     * @param endpoint The endpoint path or URL, e.g. {@code https://api.example.com/v1/users/123}
+     * @return The match, or null if no template matches
+     */
+    public RouteMatch match(String endpoint) {
+        if (endpoint == null) {
+            return null;
+        }
+        int start = pathStart(endpoint);
+        int end = pathEnd(endpoint, start);
+        CompiledPath path = match(root, endpoint, start, end);
+        if (path == null && basePaths.literals != null) {
+            int relativeStart = matchBasePath(basePaths, endpoint, start, end);
+            if (relativeStart >= 0) {
+                start = relativeStart;
+                path = match(root, endpoint, start, end);
+            }
+        }
+        if (path == null) {
+            return null;
+        }
+        return new RouteMatch(path, start == 0 ? endpoint : endpoint.substring(start));
+    }
+
+    /**
+     * Number of distinct path templates in the router.
+     */
+    public int size() {
+        return pathCount;
+    }
+
+    private boolean insert(CompiledPath path) {
+        String pattern = path.getPattern();
+        Node node = root;
+        int pos = 0;
+        int end = pattern.length();
+
+        while (true) {
+            pos = skipSlashes(pattern, pos, end);
+            if (pos >= end) {
+                break;
+            }
+            int segmentEnd = segmentEnd(pattern, pos, end);
+
+            if (isTemplate(pattern, pos, segmentEnd)) {
+                if (node.template == null) {
+                    node.template = new Node();
+                }
+                node = node.template;
+            } else {
+                if (node.literals == null) {
+                    node.literals = new SegmentTable();
+                }
+                node = node.literals.getOrCreate(pattern.substring(pos, segmentEnd));
+            }
+            pos = segmentEnd;
+        }
+
+        // The first declaration of an equivalent template wins
+        if (node.terminal != null) {
+            return false;
+        }
+        node.terminal = path;
+        return true;
+    }
+
+    private void insertBasePath(String basePath) {
+        int pos = pathStart(basePath);
+        int end = pathEnd(basePath, pos);
+        Node node = basePaths;
+        boolean empty = true;
+
+        while (true) {
+            pos = skipSlashes(basePath, pos, end);
+            if (pos >= end) {
+                break;
+            }
+            int segmentEnd = segmentEnd(basePath, pos, end);
+            if (isTemplate(basePath, pos, segmentEnd)) {
+                // Unresolved server variables cannot be matched literally
+                return;
+            }
+            if (node.literals == null) {
+                node.literals = new SegmentTable();
+            }
+            node = node.literals.getOrCreate(basePath.substring(pos, segmentEnd));
+            empty = false;
+            pos = segmentEnd;
+        }
+        if (!empty) {
+            node.basePath = true;
+        }
+    }
+
+    /**
+     * Find the longest base path in front of the endpoint after which the rest of it routes.
+     *
+     * @return The position just after that base path, or -1 if there is none
+     */
+    private int matchBasePath(Node node, String path, int pos, int end) {
+        int segmentStart = skipSlashes(path, pos, end);
+        if (segmentStart < end && node.literals != null) {
+            int segmentEnd = segmentEnd(path, segmentStart, end);
+            Node child = node.literals.get(path, segmentStart, segmentEnd);
+            if (child != null) {
+                int longer = matchBasePath(child, path, segmentEnd, end);
+                if (longer >= 0) {
+                    return longer;
+                }
+            }
+        }
+        if (node.basePath && match(root, path, pos, end) != null) {
+            return pos;
+        }
+        return -1;
+    }
+
+    private CompiledPath match(Node node, String path, int pos, int end) {
+        pos = skipSlashes(path, pos, end);
+        if (pos >= end) {
+            return node.terminal;
+        }
+        int segmentEnd = segmentEnd(path, pos, end);
+
+        if (node.literals != null) {
+            Node child = node.literals.get(path, pos, segmentEnd);
+            if (child != null) {
+                CompiledPath matched = match(child, path, segmentEnd, end);
+                if (matched != null) {
+                    return matched;
+                }
+            }
+        }
+
+        if (node.template != null) {
+            return match(node.template, path, segmentEnd, end);
+        }
+        return null;
+    }
+
+    /**
+     * Position where the path of an endpoint starts, skipping the scheme and host of a full URL.
+     */
+    private static int pathStart(String endpoint) {
+        int schemeEnd = endpoint.indexOf("://");
+        if (schemeEnd <= 0) {
+            return 0;
+        }
+        for (int i = 0; i < schemeEnd; i++) {
+            char c = endpoint.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+                return 0;
+            }
+        }
+        int length = endpoint.length();
+        for (int i = schemeEnd + 3; i < length; i++) {
+            char c = endpoint.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static int pathEnd(String path, int start) {
+        int length = path.length();
+        for (int i = start; i < length; i++) {
+            char c = path.charAt(i);
+            if (c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static int skipSlashes(String path, int pos, int end) {
+        while (pos < end && path.charAt(pos) == '/') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int segmentEnd(String path, int pos, int end) {
+        while (pos < end && path.charAt(pos) != '/') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isTemplate(String path, int start, int end) {
+        return end - start >= 2 && path.charAt(start) == '{' && path.charAt(end - 1) == '}';
+    }
+
+    private static final class Node {
+        private SegmentTable literals;
+        private Node template;
+        private CompiledPath terminal;
+
+        /**
+         * Set in the base path trie where a base path ends.
+         */
+        private boolean basePath;
+    }
+
+    /**
+     * Open-addressing hash table from literal segments to child nodes.
+     * Lookups hash a region of the endpoint in place instead of extracting a substring.
+     */
+    private static final class SegmentTable {
+
+        private String[] keys = new String[4];
+        private int[] hashes = new int[4];
+        private Node[] nodes = new Node[4];
+        private int size;
+
+        Node get(String path, int start, int end) {
+            int length = end - start;
+            int hash = hash(path, start, end);
+            int mask = keys.length - 1;
+            for (int i = spread(hash) & mask; keys[i] != null; i = (i + 1) & mask) {
+                String key = keys[i];
+                if (hashes[i] == hash && key.length() == length && key.regionMatches(0, path, start, length)) {
+                    return nodes[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrCreate(String segment) {
+            Node existing = get(segment, 0, segment.length());
+            if (existing != null) {
+                return existing;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            Node node = new Node();
+            insert(segment, segment.hashCode(), node);
+            size++;
+            return node;
+        }
+
+        private void insert(String key, int hash, Node node) {
+            int mask = keys.length - 1;
+            int i = spread(hash) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            hashes[i] = hash;
+            nodes[i] = node;
+        }
+
+        private void resize() {
+            String[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            Node[] oldNodes = nodes;
+            keys = new String[oldKeys.length * 2];
+            hashes = new int[oldKeys.length * 2];
+            nodes = new Node[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    insert(oldKeys[i], oldHashes[i], oldNodes[i]);
+                }
+            }
+        }
+
+        /**
+         * Same hash as {@link String#hashCode()} over a region of the string.
+         */
+        private static int hash(String path, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            return hash;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
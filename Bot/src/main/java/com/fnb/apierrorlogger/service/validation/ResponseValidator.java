@@ -0,0 +1,162 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.service.validation.schema.SchemaCompiler;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks a logged response status and body against an operation's {@code responses}.
+ *
+ * The status is looked up as an exact code, then a range such as {@code 4XX}, then
+ * {@code default}. If the matching response declares a JSON schema, the body is checked against it.
+ * Findings are recorded as response errors, which do not affect whether the request is valid:
+ * they separate undocumented server behaviour from invalid client requests.
+ */
+final class ResponseValidator {
+
+    private static final String COMPONENT_RESPONSE_PREFIX = "#/components/responses/";
+    private static final ResponseValidator NONE = new ResponseValidator(Map.of(), new boolean[6],
+            new JsonDocumentValidator[6], false, null, null);
+
+    /**
+     * Body validators of exact status codes; a null value means the code declares no JSON schema.
+     */
+    private final Map<Integer, JsonDocumentValidator> byStatus;
+    private final boolean[] rangeDeclared;
+    private final JsonDocumentValidator[] byRange;
+    private final boolean defaultDeclared;
+    private final JsonDocumentValidator defaultValidator;
+    private final String declaredStatuses;
+
+    private ResponseValidator(Map<Integer, JsonDocumentValidator> byStatus, boolean[] rangeDeclared,
+                              JsonDocumentValidator[] byRange, boolean defaultDeclared,
+                              JsonDocumentValidator defaultValidator, String declaredStatuses) {
+        this.byStatus = byStatus;
+        this.rangeDeclared = rangeDeclared;
+        this.byRange = byRange;
+        this.defaultDeclared = defaultDeclared;
+        this.defaultValidator = defaultValidator;
+        this.declaredStatuses = declaredStatuses;
+    }
+
+    /**
+     * Compile the response checks for an operation.
+     *
+     * @param responses The operation's responses
+     * @param componentResponses The specification's {@code components/responses}, may be null
+     * @param schemaCompiler Compiler for the specification's schemas
+     * @param objectMapper Mapper used to parse response bodies
+     */
+    static ResponseValidator compile(ApiResponses responses, Map<String, ApiResponse> componentResponses,
+                                     SchemaCompiler schemaCompiler, ObjectMapper objectMapper) {
+        if (responses == null || responses.isEmpty()) {
+            return NONE;
+        }
+
+        Map<Integer, JsonDocumentValidator> byStatus = new HashMap<>();
+        boolean[] rangeDeclared = new boolean[6];
+        JsonDocumentValidator[] byRange = new JsonDocumentValidator[6];
+        boolean defaultDeclared = false;
+        JsonDocumentValidator defaultValidator = null;
+
+        for (Map.Entry<String, ApiResponse> entry : responses.entrySet()) {
+            String key = entry.getKey().trim();
+            JsonDocumentValidator validator =
+                    bodyValidator(resolve(entry.getValue(), componentResponses), schemaCompiler, objectMapper);
+
+            if ("default".equalsIgnoreCase(key)) {
+                defaultDeclared = true;
+                defaultValidator = validator;
+            } else if (key.length() == 3 && key.charAt(0) >= '1' && key.charAt(0) <= '5'
+                    && key.substring(1).equalsIgnoreCase("XX")) {
+                int range = key.charAt(0) - '0';
+                rangeDeclared[range] = true;
+                byRange[range] = validator;
+            } else {
+                try {
+                    byStatus.put(Integer.parseInt(key), validator);
+                } catch (NumberFormatException e) {
+                    // Not a status code; ignored like any other unknown key
+                }
+            }
+        }
+
+        return new ResponseValidator(byStatus, rangeDeclared, byRange, defaultDeclared, defaultValidator,
+                String.join(", ", responses.keySet()));
+    }
+
+    /**
+     * Validate a logged response.
+     *
+     * @param status The response status, or null if not logged
+     * @param body The response body, may be null or empty
+     * @param result The result response errors are added to
+     */
+    void validate(Integer status, String body, ValidationResult result, ValidationSettings settings,
+                  ValidationTimings timings) {
+        if (status == null || this == NONE) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        JsonDocumentValidator validator;
+        int range = status / 100;
+        if (byStatus.containsKey(status)) {
+            validator = byStatus.get(status);
+        } else if (range >= 0 && range < rangeDeclared.length && rangeDeclared[range]) {
+            validator = byRange[range];
+        } else if (defaultDeclared) {
+            validator = defaultValidator;
+        } else {
+            result.addResponseError(ValidationError.builder()
+                    .field("responseStatus")
+                    .message("Response status not declared in OpenAPI specification")
+                    .expectedType("one of: " + declaredStatuses)
+                    .actualValue(status)
+                    .build());
+            timings.record(ValidationTimings.Phase.RESPONSE_CHECK, start);
+            return;
+        }
+        timings.record(ValidationTimings.Phase.RESPONSE_CHECK, start);
+
+        if (validator == null || body == null || body.trim().isEmpty()) {
+            return;
+        }
+
+        // Body errors are collected separately so they never mark the request itself invalid
+        ValidationResult bodyResult = ValidationResult.success();
+        validator.validate(body, bodyResult, settings, timings);
+        for (ValidationError error : bodyResult.getErrors()) {
+            result.addResponseError(error);
+        }
+    }
+
+    private static ApiResponse resolve(ApiResponse response, Map<String, ApiResponse> componentResponses) {
+        if (response != null && response.get$ref() != null && componentResponses != null
+                && response.get$ref().startsWith(COMPONENT_RESPONSE_PREFIX)) {
+            ApiResponse resolved = componentResponses.get(response.get$ref().substring(COMPONENT_RESPONSE_PREFIX.length()));
+            return resolved != null ? resolved : response;
+        }
+        return response;
+    }
+
+    private static JsonDocumentValidator bodyValidator(ApiResponse response, SchemaCompiler schemaCompiler,
+                                                       ObjectMapper objectMapper) {
+        if (response == null) {
+            return null;
+        }
+        Schema<?> schema = OperationValidator.jsonSchema(response.getContent());
+        if (schema == null) {
+            return null;
+        }
+        return new JsonDocumentValidator("responseBody", "response body", schemaCompiler.compile(schema), objectMapper,
+                ValidationTimings.Phase.RESPONSE_CHECK, ValidationTimings.Phase.RESPONSE_CHECK);
+    }
+}
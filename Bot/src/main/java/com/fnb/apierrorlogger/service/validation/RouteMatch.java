@@ -0,0 +1,20 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An endpoint resolved by the {@link PathRouter}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteMatch {
+
+    private final CompiledPath path;
+
+    /**
+     * The endpoint without any scheme, host or base path in front of the matched template,
+     * including its query string.
+     */
+    private final String endpoint;
+}
@@ -0,0 +1,131 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.service.validation.schema.SchemaCompiler;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.servers.ServerVariable;
+import io.swagger.v3.oas.models.servers.ServerVariables;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns a parsed OpenAPI model into a {@link CompiledSpecification}:
+ * one {@link OperationValidator} per path and method, indexed by a {@link PathRouter}.
+ * The router also learns the base paths endpoints may be logged behind: the path of each
+ * server URL, each gateway prefix, and each gateway prefix followed by a server path.
+ */
+public class SpecificationCompiler {
+
+    private final ObjectMapper objectMapper;
+
+    public SpecificationCompiler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Compile a parsed specification.
+     *
+     * @param openAPI The parsed specification
+     * @param weight Approximate in-memory cost, used for cache weighting
+     * @return The compiled specification
+     */
+    public CompiledSpecification compile(OpenAPI openAPI, long weight) {
+        return compile(openAPI, weight, List.of());
+    }
+
+    /**
+     * Compile a parsed specification whose endpoints may be logged behind API gateway prefixes.
+     *
+     * @param openAPI The parsed specification
+     * @param weight Approximate in-memory cost, used for cache weighting
+     * @param gatewayPrefixes Path prefixes added by gateways in front of the server paths
+     * @return The compiled specification
+     */
+    public CompiledSpecification compile(OpenAPI openAPI, long weight, List<String> gatewayPrefixes) {
+        Components components = openAPI.getComponents();
+        SchemaCompiler schemaCompiler = new SchemaCompiler(
+                components != null ? components.getSchemas() : null, objectMapper);
+        Map<String, ApiResponse> componentResponses = components != null ? components.getResponses() : null;
+
+        List<CompiledPath> paths = new ArrayList<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+                if (entry.getValue() != null) {
+                    paths.add(compilePath(entry.getKey(), entry.getValue(), componentResponses, schemaCompiler));
+                }
+            }
+        }
+        return new CompiledSpecification(openAPI,
+                PathRouter.compile(paths, basePaths(openAPI.getServers(), gatewayPrefixes)), weight);
+    }
+
+    private static Set<String> basePaths(List<Server> servers, List<String> gatewayPrefixes) {
+        Set<String> serverPaths = new LinkedHashSet<>();
+        if (servers != null) {
+            for (Server server : servers) {
+                String path = serverPath(server);
+                if (path != null && !path.isEmpty() && !path.equals("/")) {
+                    serverPaths.add(path);
+                }
+            }
+        }
+
+        Set<String> basePaths = new LinkedHashSet<>(serverPaths);
+        for (String prefix : gatewayPrefixes) {
+            basePaths.add(prefix);
+            for (String serverPath : serverPaths) {
+                basePaths.add(prefix + "/" + serverPath);
+            }
+        }
+        return basePaths;
+    }
+
+    /**
+     * Path of a server URL with its variables set to their defaults.
+     *
+     * @return The path, or null if the URL cannot be parsed
+     */
+    private static String serverPath(Server server) {
+        String url = server.getUrl();
+        if (url == null) {
+            return null;
+        }
+        ServerVariables variables = server.getVariables();
+        if (variables != null) {
+            for (Map.Entry<String, ServerVariable> variable : variables.entrySet()) {
+                if (variable.getValue() != null && variable.getValue().getDefault() != null) {
+                    url = url.replace("{" + variable.getKey() + "}", variable.getValue().getDefault());
+                }
+            }
+        }
+        try {
+            return URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private CompiledPath compilePath(String pattern, PathItem pathItem, Map<String, ApiResponse> componentResponses,
+                                     SchemaCompiler schemaCompiler) {
+        OperationValidator[] operations = new OperationValidator[HttpMethods.COUNT];
+        for (int i = 0; i < HttpMethods.COUNT; i++) {
+            Operation operation = HttpMethods.operation(pathItem, i);
+            if (operation != null) {
+                operations[i] = OperationValidator.compile(
+                        HttpMethods.name(i), pattern, pathItem, operation, componentResponses,
+                        schemaCompiler, objectMapper);
+            }
+        }
+        return new CompiledPath(pattern, pathItem, operations);
+    }
+}
@@ -0,0 +1,109 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fnb.apierrorlogger.service.validation.schema.ValidationBudget;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tunable settings applied to every request validation.
+ * The budget limits keep a single adversarial payload from holding a request thread
+ * beyond the 5 second response target (Requirement 7.3).
+ */
+@Component
+@Getter
+public class ValidationSettings {
+
+    public static final int DEFAULT_STREAMING_THRESHOLD_BYTES = 256 * 1024;
+    public static final int DEFAULT_MAX_DEPTH = 128;
+    public static final int DEFAULT_MAX_NODES = 1_000_000;
+    public static final long DEFAULT_MAX_PAYLOAD_BYTES = 16L * 1024 * 1024;
+    public static final long DEFAULT_MAX_DURATION_MILLIS = 2000;
+    public static final int DEFAULT_MAX_ERRORS = 100;
+
+    /**
+     * Payloads at least this long are validated straight off the parser token stream
+     * instead of being read into a tree first.
+     */
+    private final int streamingThresholdBytes;
+
+    /**
+     * Deepest nesting of payload values the schema validators will descend into.
+     */
+    private final int maxDepth;
+
+    /**
+     * Most payload values the schema validators will visit.
+     */
+    private final int maxNodes;
+
+    /**
+     * Largest payload, in UTF-8 bytes, that will be validated at all.
+     */
+    private final long maxPayloadBytes;
+
+    /**
+     * Longest time payload validation may run.
+     */
+    private final long maxDurationMillis;
+
+    /**
+     * Errors recorded before payload validation stops early.
+     */
+    private final int maxErrors;
+
+    /**
+     * Path prefixes added by API gateways in front of every specification's paths, e.g. {@code /gateway}.
+     * Endpoints logged behind one are routed as if it were not there.
+     */
+    private final List<String> gatewayPrefixes;
+
+    @Autowired
+    public ValidationSettings(
+            @Value("${app.validation.streaming-threshold-bytes:262144}") int streamingThresholdBytes,
+            @Value("${app.validation.budget.max-depth:128}") int maxDepth,
+            @Value("${app.validation.budget.max-nodes:1000000}") int maxNodes,
+            @Value("${app.validation.budget.max-payload-bytes:16777216}") long maxPayloadBytes,
+            @Value("${app.validation.budget.max-duration-millis:2000}") long maxDurationMillis,
+            @Value("${app.validation.budget.max-errors:100}") int maxErrors,
+            @Value("${app.validation.gateway-prefixes:}") String gatewayPrefixes) {
+        this.streamingThresholdBytes = streamingThresholdBytes;
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.maxDurationMillis = maxDurationMillis;
+        this.maxErrors = maxErrors;
+        this.gatewayPrefixes = split(gatewayPrefixes);
+    }
+
+    /**
+     * Settings with every value at its default, for use outside the Spring context.
+     */
+    public static ValidationSettings defaults() {
+        return new ValidationSettings(DEFAULT_STREAMING_THRESHOLD_BYTES, DEFAULT_MAX_DEPTH, DEFAULT_MAX_NODES,
+                DEFAULT_MAX_PAYLOAD_BYTES, DEFAULT_MAX_DURATION_MILLIS, DEFAULT_MAX_ERRORS, "");
+    }
+
+    /**
+     * Start a fresh budget for one validation; the time limit runs from this call.
+     */
+    public ValidationBudget newBudget() {
+        return new ValidationBudget(maxDepth, maxNodes, maxDurationMillis, maxErrors);
+    }
+
+    private static List<String> split(String values) {
+        List<String> result = new ArrayList<>();
+        if (values != null) {
+            for (String value : values.split(",")) {
+                if (!value.isBlank()) {
+                    result.add(value.trim());
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+}
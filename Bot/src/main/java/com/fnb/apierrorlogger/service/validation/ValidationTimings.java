@@ -0,0 +1,65 @@
+package com.fnb.apierrorlogger.service.validation;
+
+/**
+ * Time spent in each phase of validating one request.
+ * Phases are recorded while validating and published once the outcome is known;
+ * a phase that did not run is not reported.
+ * Not thread-safe: each validation uses its own instance.
+ */
+public final class ValidationTimings {
+
+    /**
+     * Validation phases, in the order they run.
+     */
+    public enum Phase {
+        /** Parsing and compiling the specification, on a cache miss. */
+        PARSE("parse"),
+        /** Resolving the endpoint to a path and operation. */
+        ROUTE("route"),
+        /** Checking path and query parameters. */
+        PARAMETER_CHECK("parameter_check"),
+        /** Parsing the payload into a JSON tree. Streaming validation parses while checking. */
+        PAYLOAD_PARSE("payload_parse"),
+        /** Checking the payload against the body schema. */
+        SCHEMA_CHECK("schema_check"),
+        /** Checking the logged response status and body. */
+        RESPONSE_CHECK("response_check");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] nanos = new long[PHASES.length];
+    private final boolean[] recorded = new boolean[PHASES.length];
+
+    /**
+     * Add the time elapsed since {@code startNanos} to a phase.
+     *
+     * @param phase The phase that just finished
+     * @param startNanos The {@link System#nanoTime()} reading taken when it started
+     * @return The current {@link System#nanoTime()} reading, to start the next phase with
+     */
+    public long record(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        nanos[phase.ordinal()] += now - startNanos;
+        recorded[phase.ordinal()] = true;
+        return now;
+    }
+
+    public boolean isRecorded(Phase phase) {
+        return recorded[phase.ordinal()];
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+}
@@ -0,0 +1,103 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Checks array keywords: {@code items}, {@code minItems}, {@code maxItems} and {@code uniqueItems}.
+ * Non-array values are ignored.
+ */
+final class ArrayValidator implements SchemaValidator {
+
+    private final SchemaValidator items;
+    private final Integer minItems;
+    private final Integer maxItems;
+    private final boolean uniqueItems;
+
+    /**
+     * @param items Schema for every element, or null if unconstrained
+     */
+    ArrayValidator(SchemaValidator items, Integer minItems, Integer maxItems, boolean uniqueItems) {
+        this.items = items;
+        this.minItems = minItems;
+        this.maxItems = maxItems;
+        this.uniqueItems = uniqueItems;
+    }
+
+    @Override
+    public void validate(JsonNode value, ValidationContext context) {
+        if (!value.isArray()) {
+            return;
+        }
+
+        int size = value.size();
+        if (minItems != null && size < minItems) {
+            context.addError("Array has fewer than " + minItems + " items", "minItems " + minItems, value);
+        }
+        if (maxItems != null && size > maxItems) {
+            context.addError("Array has more than " + maxItems + " items", "maxItems " + maxItems, value);
+        }
+
+        if (items != null) {
+            for (int i = 0; i < size && !context.isAborted(); i++) {
+                int mark = context.enterIndex(i);
+                items.validate(value.get(i), context);
+                context.leave(mark);
+            }
+        }
+
+        if (uniqueItems && size > 1) {
+            Set<Object> seen = new HashSet<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                if (!seen.add(EnumValidator.canonical(value.get(i)))) {
+                    context.addError("Array items are not unique", "uniqueItems", value);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams the elements of the array. Arrays that must have unique items are buffered,
+     * since every element has to be kept for comparison anyway.
+     */
+    @Override
+    public void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return;
+        }
+        if (uniqueItems) {
+            validate(StreamingSupport.readValue(parser), context);
+            return;
+        }
+
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (items != null && !context.isAborted()) {
+                int mark = context.enterIndex(size);
+                items.validateValue(parser, context);
+                context.leave(mark);
+            } else {
+                parser.skipChildren();
+            }
+            size++;
+        }
+
+        if (minItems != null && size < minItems) {
+            context.addError("Array has fewer than " + minItems + " items", "minItems " + minItems, "array");
+        }
+        if (maxItems != null && size > maxItems) {
+            context.addError("Array has more than " + maxItems + " items", "maxItems " + maxItems, "array");
+        }
+    }
+
+    @Override
+    public boolean consumes(JsonToken token) {
+        return token == JsonToken.START_ARRAY;
+    }
+}
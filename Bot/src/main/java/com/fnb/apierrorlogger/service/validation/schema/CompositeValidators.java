@@ -0,0 +1,211 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+/**
+ * Validators that combine other validators:
+ * keyword conjunction, {@code allOf}, {@code anyOf}, {@code oneOf}, {@code not} and {@code nullable}.
+ * In streaming mode {@code anyOf}, {@code oneOf} and {@code not} buffer the value they check,
+ * since each branch has to see it from the start.
+ */
+final class CompositeValidators {
+
+    private CompositeValidators() {
+    }
+
+    /**
+     * Applies every validator in turn; used both for {@code allOf} and for the keywords of one schema.
+     */
+    static final class All implements SchemaValidator {
+
+        private final SchemaValidator[] validators;
+
+        All(SchemaValidator[] validators) {
+            this.validators = validators;
+        }
+
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+            for (SchemaValidator validator : validators) {
+                validator.validate(value, context);
+                if (context.isAborted()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Runs the validators that only inspect the current token, then hands the value to the
+         * single validator that reads it. If several validators need to read the value it is
+         * buffered once and checked as a tree.
+         */
+        @Override
+        public void validate(JsonParser parser, ValidationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            SchemaValidator reader = null;
+            for (SchemaValidator validator : validators) {
+                if (validator.consumes(token)) {
+                    if (reader != null) {
+                        validate(StreamingSupport.readValue(parser), context);
+                        return;
+                    }
+                    reader = validator;
+                }
+            }
+
+            for (SchemaValidator validator : validators) {
+                if (validator != reader && !context.isAborted()) {
+                    validator.validate(parser, context);
+                }
+            }
+            if (reader == null) {
+                return;
+            }
+            if (context.isAborted()) {
+                parser.skipChildren();
+            } else {
+                reader.validate(parser, context);
+            }
+        }
+
+        @Override
+        public boolean consumes(JsonToken token) {
+            for (SchemaValidator validator : validators) {
+                if (validator.consumes(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final class AnyOf implements SchemaValidator {
+
+        private final SchemaValidator[] branches;
+
+        AnyOf(SchemaValidator[] branches) {
+            this.branches = branches;
+        }
+
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+            for (SchemaValidator branch : branches) {
+                if (passes(branch, value, context) || context.isAborted()) {
+                    return;
+                }
+            }
+            context.addError("Value does not match any of the allowed schemas", "anyOf", value);
+        }
+    }
+
+    static final class OneOf implements SchemaValidator {
+
+        private final SchemaValidator[] branches;
+
+        OneOf(SchemaValidator[] branches) {
+            this.branches = branches;
+        }
+
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+            int matches = 0;
+            for (SchemaValidator branch : branches) {
+                boolean passed = passes(branch, value, context);
+                if (context.isAborted()) {
+                    return;
+                }
+                if (passed && ++matches > 1) {
+                    context.addError("Value matches more than one schema", "oneOf", value);
+                    return;
+                }
+            }
+            if (matches == 0) {
+                context.addError("Value does not match any of the allowed schemas", "oneOf", value);
+            }
+        }
+    }
+
+    static final class Not implements SchemaValidator {
+
+        private final SchemaValidator negated;
+
+        Not(SchemaValidator negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+            if (passes(negated, value, context) && !context.isAborted()) {
+                context.addError("Value matches a schema it must not match", "not", value);
+            }
+        }
+    }
+
+    /**
+     * Accepts JSON null, otherwise delegates.
+     */
+    static final class Nullable implements SchemaValidator {
+
+        private final SchemaValidator delegate;
+
+        Nullable(SchemaValidator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+            if (!value.isNull()) {
+                delegate.validate(value, context);
+            }
+        }
+
+        @Override
+        public void validate(JsonParser parser, ValidationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                delegate.validate(parser, context);
+            }
+        }
+
+        @Override
+        public boolean consumes(JsonToken token) {
+            return token != JsonToken.VALUE_NULL && delegate.consumes(token);
+        }
+    }
+
+    /**
+     * Placeholder that lets recursive schemas refer to themselves while being compiled.
+     */
+    static final class Deferred implements SchemaValidator {
+
+        private SchemaValidator target = ACCEPT_ALL;
+
+        void resolve(SchemaValidator target) {
+            this.target = target;
+        }
+
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+            target.validate(value, context);
+        }
+
+        @Override
+        public void validate(JsonParser parser, ValidationContext context) throws IOException {
+            target.validate(parser, context);
+        }
+
+        @Override
+        public boolean consumes(JsonToken token) {
+            return target.consumes(token);
+        }
+    }
+
+    private static boolean passes(SchemaValidator branch, JsonNode value, ValidationContext context) {
+        ValidationContext probe = context.probe();
+        branch.validate(value, probe);
+        return probe.getErrorCount() == 0;
+    }
+}
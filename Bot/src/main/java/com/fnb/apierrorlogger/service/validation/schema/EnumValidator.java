@@ -0,0 +1,47 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Checks the {@code enum} keyword against a precomputed hash set.
+ * Values are canonicalised so that, for example, {@code 1} and {@code 1.0} compare equal.
+ */
+final class EnumValidator implements SchemaValidator {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final Set<Object> allowed;
+    private final String expected;
+
+    EnumValidator(Set<Object> allowed, String expected) {
+        this.allowed = allowed;
+        this.expected = expected;
+    }
+
+    @Override
+    public void validate(JsonNode value, ValidationContext context) {
+        if (!allowed.contains(canonical(value))) {
+            context.addError("Value is not one of the allowed values", expected, value);
+        }
+    }
+
+    static Object canonical(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return NULL_KEY;
+        }
+        if (value.isTextual()) {
+            return value.textValue();
+        }
+        if (value.isNumber()) {
+            BigDecimal decimal = value.decimalValue();
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,92 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bit flags for the JSON Schema primitive types.
+ */
+final class JsonTypes {
+
+    static final int NULL = 1;
+    static final int BOOLEAN = 1 << 1;
+    static final int STRING = 1 << 2;
+    static final int INTEGER = 1 << 3;
+    static final int NUMBER = 1 << 4;
+    static final int OBJECT = 1 << 5;
+    static final int ARRAY = 1 << 6;
+
+    private JsonTypes() {
+    }
+
+    /**
+     * Map a schema type name to its flag.
+     *
+     * @return The flag, or 0 for unknown type names
+     */
+    static int fromName(String type) {
+        if (type == null) {
+            return 0;
+        }
+        return switch (type) {
+            case "null" -> NULL;
+            case "boolean" -> BOOLEAN;
+            case "string" -> STRING;
+            case "integer" -> INTEGER;
+            case "number" -> NUMBER;
+            case "object" -> OBJECT;
+            case "array" -> ARRAY;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Flags describing a JSON value. Integral numbers are both {@code integer} and {@code number}.
+     */
+    static int of(JsonNode value) {
+        if (value.isNull() || value.isMissingNode()) {
+            return NULL;
+        }
+        if (value.isTextual()) {
+            return STRING;
+        }
+        if (value.isNumber()) {
+            return isIntegral(value) ? INTEGER | NUMBER : NUMBER;
+        }
+        if (value.isBoolean()) {
+            return BOOLEAN;
+        }
+        if (value.isObject()) {
+            return OBJECT;
+        }
+        if (value.isArray()) {
+            return ARRAY;
+        }
+        return 0;
+    }
+
+    static String describe(int flags) {
+        List<String> names = new ArrayList<>(2);
+        if ((flags & NULL) != 0) names.add("null");
+        if ((flags & BOOLEAN) != 0) names.add("boolean");
+        if ((flags & STRING) != 0) names.add("string");
+        if ((flags & INTEGER) != 0 && (flags & NUMBER) == 0) names.add("integer");
+        if ((flags & NUMBER) != 0) names.add("number");
+        if ((flags & OBJECT) != 0) names.add("object");
+        if ((flags & ARRAY) != 0) names.add("array");
+        return String.join("|", names);
+    }
+
+    private static boolean isIntegral(JsonNode value) {
+        if (value.isIntegralNumber()) {
+            return true;
+        }
+        if (value.isBigDecimal()) {
+            return value.decimalValue().stripTrailingZeros().scale() <= 0;
+        }
+        double number = value.doubleValue();
+        return !Double.isInfinite(number) && number == Math.rint(number);
+    }
+}
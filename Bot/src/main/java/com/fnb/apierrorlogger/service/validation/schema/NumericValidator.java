@@ -0,0 +1,85 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Checks numeric keywords: {@code minimum}, {@code maximum}, their exclusive forms
+ * and {@code multipleOf}. Non-numeric values are ignored.
+ */
+final class NumericValidator implements SchemaValidator {
+
+    private final BigDecimal minimum;
+    private final double minimumDouble;
+    private final boolean exclusiveMinimum;
+    private final BigDecimal maximum;
+    private final double maximumDouble;
+    private final boolean exclusiveMaximum;
+    private final BigDecimal multipleOf;
+
+    NumericValidator(BigDecimal minimum, boolean exclusiveMinimum, BigDecimal maximum, boolean exclusiveMaximum,
+                     BigDecimal multipleOf) {
+        this.minimum = minimum;
+        this.minimumDouble = minimum != null ? minimum.doubleValue() : 0;
+        this.exclusiveMinimum = exclusiveMinimum;
+        this.maximum = maximum;
+        this.maximumDouble = maximum != null ? maximum.doubleValue() : 0;
+        this.exclusiveMaximum = exclusiveMaximum;
+        this.multipleOf = multipleOf != null && multipleOf.signum() > 0 ? multipleOf : null;
+    }
+
+    @Override
+    public void validate(JsonNode value, ValidationContext context) {
+        if (!value.isNumber()) {
+            return;
+        }
+
+        if (minimum != null) {
+            int comparison = compare(value, minimum, minimumDouble);
+            if (comparison < 0 || (exclusiveMinimum && comparison == 0)) {
+                String expected = (exclusiveMinimum ? "> " : ">= ") + minimum.toPlainString();
+                context.addError("Number is below the minimum", expected, value);
+            }
+        }
+
+        if (maximum != null) {
+            int comparison = compare(value, maximum, maximumDouble);
+            if (comparison > 0 || (exclusiveMaximum && comparison == 0)) {
+                String expected = (exclusiveMaximum ? "< " : "<= ") + maximum.toPlainString();
+                context.addError("Number is above the maximum", expected, value);
+            }
+        }
+
+        if (multipleOf != null && value.decimalValue().remainder(multipleOf).signum() != 0) {
+            context.addError("Number is not a multiple of " + multipleOf.toPlainString(),
+                    "multipleOf " + multipleOf.toPlainString(), value);
+        }
+    }
+
+    @Override
+    public void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            validate(StreamingSupport.readValue(parser), context);
+        }
+    }
+
+    @Override
+    public boolean consumes(JsonToken token) {
+        return false;
+    }
+
+    /**
+     * Compare using doubles for ordinary numbers and exact decimals only for big values.
+     */
+    private static int compare(JsonNode value, BigDecimal bound, double boundDouble) {
+        if (value.isBigDecimal() || value.isBigInteger()) {
+            return value.decimalValue().compareTo(bound);
+        }
+        double number = value.doubleValue();
+        return number < boundDouble ? -1 : (number > boundDouble ? 1 : 0);
+    }
+}
@@ -0,0 +1,168 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Checks object keywords: {@code required}, {@code properties}, {@code additionalProperties},
+ * {@code minProperties} and {@code maxProperties}. Non-object values are ignored.
+ */
+final class ObjectValidator implements SchemaValidator {
+
+    private final String[] required;
+    private final String[] propertyNames;
+    private final SchemaValidator[] propertyValidators;
+    private final Map<String, SchemaValidator> propertyIndex;
+    private final Map<String, Integer> requiredSlots;
+    private final boolean additionalAllowed;
+    private final SchemaValidator additionalValidator;
+    private final Integer minProperties;
+    private final Integer maxProperties;
+
+    /**
+     * @param propertyIndex Declared properties in declaration order
+     * @param additionalAllowed False when {@code additionalProperties: false}
+     * @param additionalValidator Schema for undeclared properties, or null if unconstrained
+     */
+    ObjectValidator(String[] required, Map<String, SchemaValidator> propertyIndex, boolean additionalAllowed,
+                    SchemaValidator additionalValidator, Integer minProperties, Integer maxProperties) {
+        this.required = required;
+        this.propertyIndex = propertyIndex;
+        this.requiredSlots = new HashMap<>();
+        for (int i = 0; i < required.length; i++) {
+            requiredSlots.putIfAbsent(required[i], i);
+        }
+        this.propertyNames = propertyIndex.keySet().toArray(new String[0]);
+        this.propertyValidators = propertyIndex.values().toArray(new SchemaValidator[0]);
+        this.additionalAllowed = additionalAllowed;
+        this.additionalValidator = additionalValidator;
+        this.minProperties = minProperties;
+        this.maxProperties = maxProperties;
+    }
+
+    @Override
+    public void validate(JsonNode value, ValidationContext context) {
+        if (!value.isObject()) {
+            return;
+        }
+
+        for (String name : required) {
+            if (!value.has(name)) {
+                context.addPropertyError(name, "Required field missing", "required", "missing");
+                if (context.isAborted()) {
+                    return;
+                }
+            }
+        }
+
+        for (int i = 0; i < propertyNames.length; i++) {
+            JsonNode child = value.get(propertyNames[i]);
+            if (child != null) {
+                int mark = context.enterProperty(propertyNames[i]);
+                propertyValidators[i].validate(child, context);
+                context.leave(mark);
+                if (context.isAborted()) {
+                    return;
+                }
+            }
+        }
+
+        if (!additionalAllowed || additionalValidator != null) {
+            Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+            while (fields.hasNext() && !context.isAborted()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (propertyIndex.containsKey(field.getKey())) {
+                    continue;
+                }
+                if (!additionalAllowed) {
+                    context.addPropertyError(field.getKey(), "Additional property not allowed",
+                            "no additional properties", "present");
+                } else {
+                    int mark = context.enterProperty(field.getKey());
+                    additionalValidator.validate(field.getValue(), context);
+                    context.leave(mark);
+                }
+            }
+        }
+
+        int size = value.size();
+        if (minProperties != null && size < minProperties) {
+            context.addError("Object has fewer than " + minProperties + " properties", "minProperties " + minProperties, value);
+        }
+        if (maxProperties != null && size > maxProperties) {
+            context.addError("Object has more than " + maxProperties + " properties", "maxProperties " + maxProperties, value);
+        }
+    }
+
+    /**
+     * Streams the members of the object, so only the path to the current member is held in memory.
+     * Missing required properties are reported once the whole object has been read.
+     */
+    @Override
+    public void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return;
+        }
+
+        boolean[] seen = new boolean[required.length];
+        int size = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            size++;
+
+            Integer slot = requiredSlots.get(name);
+            if (slot != null) {
+                seen[slot] = true;
+            }
+
+            if (context.isAborted()) {
+                parser.skipChildren();
+                continue;
+            }
+
+            SchemaValidator validator = propertyIndex.get(name);
+            if (validator == null && !additionalAllowed) {
+                context.addPropertyError(name, "Additional property not allowed",
+                        "no additional properties", "present");
+                parser.skipChildren();
+                continue;
+            }
+            if (validator == null) {
+                validator = additionalValidator;
+            }
+            if (validator == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int mark = context.enterProperty(name);
+            validator.validateValue(parser, context);
+            context.leave(mark);
+        }
+
+        for (int i = 0; i < required.length && !context.isAborted(); i++) {
+            if (!seen[i] && requiredSlots.get(required[i]) == i) {
+                context.addPropertyError(required[i], "Required field missing", "required", "missing");
+            }
+        }
+
+        if (minProperties != null && size < minProperties) {
+            context.addError("Object has fewer than " + minProperties + " properties", "minProperties " + minProperties, "object");
+        }
+        if (maxProperties != null && size > maxProperties) {
+            context.addError("Object has more than " + maxProperties + " properties", "maxProperties " + maxProperties, "object");
+        }
+    }
+
+    @Override
+    public boolean consumes(JsonToken token) {
+        return token == JsonToken.START_OBJECT;
+    }
+}
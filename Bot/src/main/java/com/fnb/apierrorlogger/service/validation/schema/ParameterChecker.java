@@ -0,0 +1,136 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fnb.apierrorlogger.model.ValidationResult;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Checks the raw string values of one path or query parameter against the parameter's schema.
+ * Values are converted to the JSON type the schema declares (so {@code "42"} is checked as an
+ * integer) and then run through the compiled schema validator, which covers type, enum,
+ * pattern, length and range keywords.
+ */
+public final class ParameterChecker {
+
+    private final String field;
+    private final int type;
+    private final int itemType;
+    private final boolean explode;
+    private final SchemaValidator validator;
+
+    /**
+     * @param field Field name reported with errors, e.g. {@code query.limit}
+     * @param type JSON type flag declared by the schema, or 0 if none
+     * @param itemType JSON type flag of array items, or 0 if none
+     * @param explode Whether array values are sent as repeated parameters rather than comma-separated
+     */
+    ParameterChecker(String field, int type, int itemType, boolean explode, SchemaValidator validator) {
+        this.field = field;
+        this.type = type;
+        this.itemType = itemType;
+        this.explode = explode;
+        this.validator = validator;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Check a parameter that occurred once.
+     */
+    public void check(String value, ValidationResult result) {
+        JsonNode node;
+        if (type == JsonTypes.ARRAY) {
+            ArrayNode array = JsonNodeFactory.instance.arrayNode();
+            if (explode) {
+                array.add(coerce(value, itemType));
+            } else {
+                addSplit(array, value);
+            }
+            node = array;
+        } else {
+            node = coerce(value, type);
+        }
+        validator.validate(node, new ValidationContext(field, result));
+    }
+
+    /**
+     * Check a parameter that occurred more than once.
+     */
+    public void check(List<String> values, ValidationResult result) {
+        if (type != JsonTypes.ARRAY) {
+            // Only the first occurrence of a scalar parameter is significant
+            check(values.get(0), result);
+            return;
+        }
+        ArrayNode array = JsonNodeFactory.instance.arrayNode(values.size());
+        for (String value : values) {
+            if (explode) {
+                array.add(coerce(value, itemType));
+            } else {
+                addSplit(array, value);
+            }
+        }
+        validator.validate(array, new ValidationContext(field, result));
+    }
+
+    private void addSplit(ArrayNode array, String value) {
+        int start = 0;
+        while (true) {
+            int comma = value.indexOf(',', start);
+            int end = comma < 0 ? value.length() : comma;
+            array.add(coerce(value.substring(start, end), itemType));
+            if (comma < 0) {
+                return;
+            }
+            start = comma + 1;
+        }
+    }
+
+    /**
+     * Convert a raw value to the declared type; values that do not convert stay strings
+     * so the type check reports them.
+     */
+    private static JsonNode coerce(String value, int type) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        try {
+            switch (type) {
+                case JsonTypes.INTEGER:
+                    return isDigits(value) && value.length() < 19
+                            ? factory.numberNode(Long.parseLong(value))
+                            : factory.numberNode(new BigInteger(value));
+                case JsonTypes.NUMBER:
+                    return factory.numberNode(new BigDecimal(value));
+                case JsonTypes.BOOLEAN:
+                    if ("true".equals(value) || "false".equals(value)) {
+                        return factory.booleanNode(Boolean.parseBoolean(value));
+                    }
+                    return factory.textNode(value);
+                default:
+                    return factory.textNode(value);
+            }
+        } catch (NumberFormatException e) {
+            return factory.textNode(value);
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        int start = value.startsWith("-") ? 1 : 0;
+        if (start == value.length()) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,274 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles OpenAPI {@link Schema} objects into trees of {@link SchemaValidator} nodes.
+ * Every schema is inspected once; the resulting tree is reused for every payload.
+ *
+ * One compiler is used per specification so that shared and recursive schemas
+ * ({@code $ref} to the same component) compile to a single shared node.
+ * Instances are not thread-safe; compiled validators are.
+ */
+@Slf4j
+public class SchemaCompiler {
+
+    private static final String COMPONENT_SCHEMA_PREFIX = "#/components/schemas/";
+
+    private final Map<String, Schema> componentSchemas;
+    private final ObjectMapper objectMapper;
+    private final Map<Schema<?>, SchemaValidator> compiled = new IdentityHashMap<>();
+    private final Map<String, SchemaValidator> compiledRefs = new HashMap<>();
+
+    /**
+     * @param componentSchemas The specification's {@code components/schemas}, may be null
+     * @param objectMapper Mapper used to convert enum values to JSON
+     */
+    public SchemaCompiler(Map<String, Schema> componentSchemas, ObjectMapper objectMapper) {
+        this.componentSchemas = componentSchemas != null ? componentSchemas : Map.of();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema The schema, may be null
+     * @return The validator; accepts everything if the schema is null or has no constraints
+     */
+    public SchemaValidator compile(Schema<?> schema) {
+        if (schema == null) {
+            return SchemaValidator.ACCEPT_ALL;
+        }
+        if (schema.get$ref() != null) {
+            return compileRef(schema.get$ref());
+        }
+
+        SchemaValidator existing = compiled.get(schema);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompositeValidators.Deferred deferred = new CompositeValidators.Deferred();
+        compiled.put(schema, deferred);
+        SchemaValidator validator = compileKeywords(schema);
+        deferred.resolve(validator);
+        compiled.put(schema, validator);
+        return validator;
+    }
+
+    /**
+     * Compile the checker for a path or query parameter.
+     *
+     * @param field Field name reported with errors, e.g. {@code query.limit}
+     * @param schema The parameter schema, may be null
+     * @param explode Whether array values arrive as repeated parameters
+     * @return The checker, or null if the parameter cannot be checked from its string form
+     */
+    public ParameterChecker compileParameter(String field, Schema<?> schema, boolean explode) {
+        Schema<?> resolved = resolve(schema);
+        int type = resolved != null ? JsonTypes.fromName(resolved.getType()) : 0;
+        if (type == JsonTypes.OBJECT) {
+            return null;
+        }
+        Schema<?> items = type == JsonTypes.ARRAY ? resolve(resolved.getItems()) : null;
+        int itemType = items != null ? JsonTypes.fromName(items.getType()) : 0;
+        return new ParameterChecker(field, type, itemType, explode, compile(schema));
+    }
+
+    private Schema<?> resolve(Schema<?> schema) {
+        if (schema != null && schema.get$ref() != null && schema.get$ref().startsWith(COMPONENT_SCHEMA_PREFIX)) {
+            return componentSchemas.get(schema.get$ref().substring(COMPONENT_SCHEMA_PREFIX.length()));
+        }
+        return schema;
+    }
+
+    private SchemaValidator compileRef(String ref) {
+        SchemaValidator existing = compiledRefs.get(ref);
+        if (existing != null) {
+            return existing;
+        }
+
+        Schema<?> target = ref.startsWith(COMPONENT_SCHEMA_PREFIX)
+                ? componentSchemas.get(ref.substring(COMPONENT_SCHEMA_PREFIX.length()))
+                : null;
+        if (target == null) {
+            log.warn("Unresolvable schema reference '{}', values will not be checked against it", ref);
+            compiledRefs.put(ref, SchemaValidator.ACCEPT_ALL);
+            return SchemaValidator.ACCEPT_ALL;
+        }
+
+        CompositeValidators.Deferred deferred = new CompositeValidators.Deferred();
+        compiledRefs.put(ref, deferred);
+        SchemaValidator validator = compile(target);
+        deferred.resolve(validator);
+        compiledRefs.put(ref, validator);
+        return validator;
+    }
+
+    private SchemaValidator compileKeywords(Schema<?> schema) {
+        List<SchemaValidator> validators = new ArrayList<>();
+        boolean nullable = Boolean.TRUE.equals(schema.getNullable());
+
+        int type = JsonTypes.fromName(schema.getType());
+        if (type != 0) {
+            validators.add(new TypeValidator(nullable ? type | JsonTypes.NULL : type));
+        }
+
+        if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+            validators.add(compileEnum(schema.getEnum()));
+        }
+
+        SchemaValidator stringValidator = compileString(schema);
+        if (stringValidator != null) {
+            validators.add(stringValidator);
+        }
+
+        SchemaValidator numericValidator = compileNumeric(schema);
+        if (numericValidator != null) {
+            validators.add(numericValidator);
+        }
+
+        SchemaValidator objectValidator = compileObject(schema);
+        if (objectValidator != null) {
+            validators.add(objectValidator);
+        }
+
+        SchemaValidator arrayValidator = compileArray(schema);
+        if (arrayValidator != null) {
+            validators.add(arrayValidator);
+        }
+
+        if (schema.getAllOf() != null && !schema.getAllOf().isEmpty()) {
+            validators.add(new CompositeValidators.All(compileAll(schema.getAllOf())));
+        }
+        if (schema.getAnyOf() != null && !schema.getAnyOf().isEmpty()) {
+            validators.add(new CompositeValidators.AnyOf(compileAll(schema.getAnyOf())));
+        }
+        if (schema.getOneOf() != null && !schema.getOneOf().isEmpty()) {
+            validators.add(new CompositeValidators.OneOf(compileAll(schema.getOneOf())));
+        }
+        if (schema.getNot() != null) {
+            validators.add(new CompositeValidators.Not(compile(schema.getNot())));
+        }
+
+        SchemaValidator validator = switch (validators.size()) {
+            case 0 -> SchemaValidator.ACCEPT_ALL;
+            case 1 -> validators.get(0);
+            default -> new CompositeValidators.All(validators.toArray(new SchemaValidator[0]));
+        };
+        return nullable && validator != SchemaValidator.ACCEPT_ALL ? new CompositeValidators.Nullable(validator) : validator;
+    }
+
+    private SchemaValidator[] compileAll(List<Schema> schemas) {
+        SchemaValidator[] validators = new SchemaValidator[schemas.size()];
+        for (int i = 0; i < validators.length; i++) {
+            validators[i] = compile(schemas.get(i));
+        }
+        return validators;
+    }
+
+    private SchemaValidator compileEnum(List<?> values) {
+        Set<Object> allowed = new HashSet<>();
+        List<String> names = new ArrayList<>(values.size());
+        for (Object value : values) {
+            JsonNode node;
+            try {
+                node = objectMapper.valueToTree(value);
+            } catch (IllegalArgumentException e) {
+                node = objectMapper.getNodeFactory().textNode(String.valueOf(value));
+            }
+            allowed.add(EnumValidator.canonical(node));
+            names.add(String.valueOf(value));
+        }
+        return new EnumValidator(Set.copyOf(allowed), "one of: " + String.join(", ", names));
+    }
+
+    private SchemaValidator compileString(Schema<?> schema) {
+        Pattern pattern = null;
+        if (schema.getPattern() != null) {
+            try {
+                pattern = Pattern.compile(schema.getPattern());
+            } catch (PatternSyntaxException e) {
+                log.warn("Ignoring invalid schema pattern '{}': {}", schema.getPattern(), e.getDescription());
+            }
+        }
+        String format = StringValidator.isCheckedFormat(schema.getFormat())
+                && JsonTypes.fromName(schema.getType()) == JsonTypes.STRING ? schema.getFormat() : null;
+
+        if (schema.getMinLength() == null && schema.getMaxLength() == null && pattern == null && format == null) {
+            return null;
+        }
+        return new StringValidator(schema.getMinLength(), schema.getMaxLength(), pattern, format);
+    }
+
+    private SchemaValidator compileNumeric(Schema<?> schema) {
+        BigDecimal minimum = schema.getMinimum();
+        BigDecimal maximum = schema.getMaximum();
+        BigDecimal multipleOf = schema.getMultipleOf();
+        if (minimum == null && maximum == null && multipleOf == null) {
+            return null;
+        }
+        return new NumericValidator(
+                minimum, Boolean.TRUE.equals(schema.getExclusiveMinimum()),
+                maximum, Boolean.TRUE.equals(schema.getExclusiveMaximum()),
+                multipleOf);
+    }
+
+    private SchemaValidator compileObject(Schema<?> schema) {
+        Map<String, Schema> properties = schema.getProperties();
+        List<String> required = schema.getRequired();
+        Object additionalProperties = schema.getAdditionalProperties();
+
+        boolean hasProperties = properties != null && !properties.isEmpty();
+        boolean hasRequired = required != null && !required.isEmpty();
+        boolean additionalAllowed = !Boolean.FALSE.equals(additionalProperties);
+        Schema<?> additionalSchema = additionalProperties instanceof Schema<?> s ? s : null;
+
+        if (!hasProperties && !hasRequired && additionalAllowed && additionalSchema == null
+                && schema.getMinProperties() == null && schema.getMaxProperties() == null) {
+            return null;
+        }
+
+        Map<String, SchemaValidator> propertyIndex = new LinkedHashMap<>();
+        if (hasProperties) {
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                propertyIndex.put(property.getKey(), compile(property.getValue()));
+            }
+        }
+        SchemaValidator additionalValidator = additionalSchema != null ? compile(additionalSchema) : null;
+
+        return new ObjectValidator(
+                hasRequired ? required.toArray(new String[0]) : new String[0],
+                propertyIndex,
+                additionalAllowed,
+                additionalValidator == SchemaValidator.ACCEPT_ALL ? null : additionalValidator,
+                schema.getMinProperties(),
+                schema.getMaxProperties());
+    }
+
+    private SchemaValidator compileArray(Schema<?> schema) {
+        Schema<?> itemsSchema = schema.getItems();
+        boolean uniqueItems = Boolean.TRUE.equals(schema.getUniqueItems());
+        if (itemsSchema == null && schema.getMinItems() == null && schema.getMaxItems() == null && !uniqueItems) {
+            return null;
+        }
+        SchemaValidator items = itemsSchema != null ? compile(itemsSchema) : null;
+        return new ArrayValidator(items == SchemaValidator.ACCEPT_ALL ? null : items,
+                schema.getMinItems(), schema.getMaxItems(), uniqueItems);
+    }
+}
@@ -0,0 +1,77 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+/**
+ * A compiled node in a schema validator tree.
+ * Each node checks one schema (or one group of keywords) and reports
+ * violations to the {@link ValidationContext}. Nodes are immutable and thread-safe.
+ *
+ * Nodes can validate either a materialised {@link JsonNode} or a value read directly from a
+ * {@link JsonParser}. In streaming mode a node that {@linkplain #consumes(JsonToken) consumes}
+ * the value leaves the parser on the value's last token; any other node leaves it unmoved.
+ */
+@FunctionalInterface
+public interface SchemaValidator {
+
+    /**
+     * Validator for schemas that accept any value.
+     */
+    SchemaValidator ACCEPT_ALL = new SchemaValidator() {
+        @Override
+        public void validate(JsonNode value, ValidationContext context) {
+        }
+
+        @Override
+        public void validate(JsonParser parser, ValidationContext context) {
+        }
+
+        @Override
+        public boolean consumes(JsonToken token) {
+            return false;
+        }
+    };
+
+    /**
+     * Validate a JSON value.
+     *
+     * @param value The value to validate, never null (JSON null is a NullNode)
+     * @param context The context collecting errors for the current location
+     */
+    void validate(JsonNode value, ValidationContext context);
+
+    /**
+     * Validate the value starting at the parser's current token.
+     * The default implementation buffers the value into a tree, which keeps composition
+     * keywords such as {@code oneOf} correct at the cost of memory for that subtree.
+     *
+     * @param parser Parser positioned on the first token of the value
+     * @param context The context collecting errors for the current location
+     */
+    default void validate(JsonParser parser, ValidationContext context) throws IOException {
+        validate(StreamingSupport.readValue(parser), context);
+    }
+
+    /**
+     * Whether streaming validation of a value starting with this token moves the parser.
+     */
+    default boolean consumes(JsonToken token) {
+        return token.isStructStart();
+    }
+
+    /**
+     * Validate the value starting at the parser's current token and leave the parser on
+     * the value's last token, whether or not this node needed to read it.
+     */
+    default void validateValue(JsonParser parser, ValidationContext context) throws IOException {
+        boolean consumed = consumes(parser.currentToken());
+        validate(parser, context);
+        if (!consumed) {
+            parser.skipChildren();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+
+/**
+ * Helpers for validating values read from a {@link JsonParser} token stream.
+ */
+final class StreamingSupport {
+
+    private StreamingSupport() {
+    }
+
+    /**
+     * Read the value at the parser's current token into a tree.
+     * Leaves the parser on the value's last token.
+     */
+    static JsonNode readValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != null && token.isScalarValue()) {
+            return scalar(parser, token);
+        }
+        if (parser.getCodec() == null) {
+            throw new IllegalStateException("Streaming validation requires a parser created by an ObjectMapper");
+        }
+        JsonNode node = parser.readValueAsTree();
+        return node != null ? node : MissingNode.getInstance();
+    }
+
+    /**
+     * JSON type flags of the value starting at the parser's current token.
+     */
+    static int typeOf(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        return switch (token) {
+            case START_OBJECT -> JsonTypes.OBJECT;
+            case START_ARRAY -> JsonTypes.ARRAY;
+            case VALUE_STRING -> JsonTypes.STRING;
+            case VALUE_TRUE, VALUE_FALSE -> JsonTypes.BOOLEAN;
+            case VALUE_NULL -> JsonTypes.NULL;
+            case VALUE_NUMBER_INT -> JsonTypes.INTEGER | JsonTypes.NUMBER;
+            case VALUE_NUMBER_FLOAT -> JsonTypes.of(scalar(parser, token));
+            default -> 0;
+        };
+    }
+
+    /**
+     * Summary of the value at the parser's current token, for reporting with an error.
+     */
+    static Object summarize(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return "object";
+        }
+        if (token == JsonToken.START_ARRAY) {
+            return "array";
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return token.isNumeric() ? parser.getNumberValue() : parser.getText();
+    }
+
+    private static JsonNode scalar(JsonParser parser, JsonToken token) throws IOException {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        return switch (token) {
+            case VALUE_STRING -> factory.textNode(parser.getText());
+            case VALUE_TRUE -> factory.booleanNode(true);
+            case VALUE_FALSE -> factory.booleanNode(false);
+            case VALUE_NULL -> factory.nullNode();
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> factory.numberNode(parser.getIntValue());
+                case LONG -> factory.numberNode(parser.getLongValue());
+                default -> factory.numberNode(parser.getBigIntegerValue());
+            };
+            case VALUE_NUMBER_FLOAT -> parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL
+                    ? factory.numberNode(parser.getDecimalValue())
+                    : factory.numberNode(parser.getDoubleValue());
+            default -> factory.pojoNode(parser.getEmbeddedObject());
+        };
+    }
+}
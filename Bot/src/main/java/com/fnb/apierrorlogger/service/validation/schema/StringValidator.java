@@ -0,0 +1,102 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+/**
+ * Checks string keywords: {@code minLength}, {@code maxLength}, {@code pattern} and {@code format}.
+ * Non-string values are ignored. Patterns are compiled once when the schema is compiled, and
+ * matched within the time limit of the validation budget.
+ */
+final class StringValidator implements SchemaValidator {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final Integer minLength;
+    private final Integer maxLength;
+    private final Pattern pattern;
+    private final String patternSource;
+    private final String format;
+
+    StringValidator(Integer minLength, Integer maxLength, Pattern pattern, String format) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.pattern = pattern;
+        this.patternSource = pattern != null ? pattern.pattern() : null;
+        this.format = format;
+    }
+
+    /**
+     * Whether a format is one this validator checks.
+     */
+    static boolean isCheckedFormat(String format) {
+        return format != null && switch (format) {
+            case "date", "date-time", "uuid", "email" -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public void validate(JsonNode value, ValidationContext context) {
+        if (!value.isTextual()) {
+            return;
+        }
+        String text = value.textValue();
+
+        if (minLength != null || maxLength != null) {
+            int length = text.codePointCount(0, text.length());
+            if (minLength != null && length < minLength) {
+                context.addError("String is shorter than " + minLength + " characters", "minLength " + minLength, value);
+            }
+            if (maxLength != null && length > maxLength) {
+                context.addError("String is longer than " + maxLength + " characters", "maxLength " + maxLength, value);
+            }
+        }
+
+        // A match that runs out of time exhausts the budget, which reports it instead
+        if (pattern != null && !context.find(pattern, text)) {
+            context.addError("String does not match pattern", "pattern " + patternSource, value);
+        }
+
+        if (format != null && !matchesFormat(text)) {
+            context.addError("String is not a valid " + format, "format " + format, value);
+        }
+    }
+
+    @Override
+    public void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            validate(TextNode.valueOf(parser.getText()), context);
+        }
+    }
+
+    @Override
+    public boolean consumes(JsonToken token) {
+        return false;
+    }
+
+    private boolean matchesFormat(String text) {
+        try {
+            return switch (format) {
+                case "date" -> LocalDate.parse(text) != null;
+                case "date-time" -> OffsetDateTime.parse(text) != null;
+                case "uuid" -> UUID_PATTERN.matcher(text).matches();
+                case "email" -> EMAIL_PATTERN.matcher(text).matches();
+                default -> true;
+            };
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
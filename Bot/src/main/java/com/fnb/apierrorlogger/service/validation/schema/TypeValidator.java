@@ -0,0 +1,40 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+/**
+ * Checks the {@code type} keyword, including OpenAPI {@code nullable}.
+ */
+final class TypeValidator implements SchemaValidator {
+
+    private final int allowed;
+    private final String expected;
+
+    TypeValidator(int allowed) {
+        this.allowed = allowed;
+        this.expected = JsonTypes.describe(allowed);
+    }
+
+    @Override
+    public void validate(JsonNode value, ValidationContext context) {
+        if ((JsonTypes.of(value) & allowed) == 0) {
+            context.addError("Invalid type, expected " + expected, expected, value);
+        }
+    }
+
+    @Override
+    public void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if ((StreamingSupport.typeOf(parser) & allowed) == 0) {
+            context.addError("Invalid type, expected " + expected, expected, StreamingSupport.summarize(parser));
+        }
+    }
+
+    @Override
+    public boolean consumes(JsonToken token) {
+        return false;
+    }
+}
@@ -0,0 +1,238 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Limits on the work a single payload validation may do: nesting depth, number of values
+ * visited, wall time and number of errors recorded. Once any limit is hit the budget is
+ * exhausted and every {@link ValidationContext} sharing it stops. The exhausted limit is
+ * reported against whichever document was being checked, a request payload or a response body.
+ *
+ * One budget is created per validation and is not thread-safe.
+ */
+public final class ValidationBudget {
+
+    /**
+     * The clock is only read every this many visited values.
+     */
+    private static final int TIME_CHECK_INTERVAL = 256;
+
+    /**
+     * While matching a pattern, the clock is only read every this many characters read.
+     */
+    private static final int MATCH_TIME_CHECK_INTERVAL = 4096;
+
+    /**
+     * Start of the limit reported for the time limit, which tells it apart from the other limits.
+     */
+    private static final String TIME_LIMIT = "duration <= ";
+
+    private final int maxDepth;
+    private final int maxNodes;
+    private final int maxErrors;
+    private final long maxDurationNanos;
+    private final long startNanos;
+
+    private int depth;
+    private int nodes;
+    private int errors;
+    private Exhaustion exhaustion;
+
+    /**
+     * @param maxDepth Deepest nesting of validated values
+     * @param maxNodes Most values visited by the validator tree
+     * @param maxDurationMillis Longest time the validation may run
+     * @param maxErrors Errors recorded before validation stops
+     */
+    public ValidationBudget(int maxDepth, int maxNodes, long maxDurationMillis, int maxErrors) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxErrors = maxErrors;
+        this.maxDurationNanos = maxDurationMillis * 1_000_000L;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * A budget that never runs out.
+     */
+    public static ValidationBudget unlimited() {
+        return new ValidationBudget(Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE / 1_000_000L, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Record descending into a child value.
+     *
+     * @return False if the budget is exhausted and the child should not be checked
+     */
+    boolean enter() {
+        depth++;
+        nodes++;
+        if (exhaustion != null) {
+            return false;
+        }
+        if (depth > maxDepth) {
+            exhaust("%s nesting exceeds the validation depth limit", "depth <= " + maxDepth,
+                    ValidationError.TYPE_BUDGET_EXCEEDED);
+        } else if (nodes > maxNodes) {
+            exhaust("%s exceeds the validation node limit", "nodes <= " + maxNodes,
+                    ValidationError.TYPE_BUDGET_EXCEEDED);
+        } else if (nodes % TIME_CHECK_INTERVAL == 0) {
+            checkTime();
+        }
+        return exhaustion == null;
+    }
+
+    void leave() {
+        depth--;
+    }
+
+    /**
+     * Record an error added to the result; stops validation once the cap is reached.
+     */
+    void recordError() {
+        if (++errors >= maxErrors && exhaustion == null) {
+            exhaust("Validation stopped after " + maxErrors + " errors", "errors <= " + maxErrors,
+                    ValidationError.TYPE_ERROR_LIMIT_REACHED);
+        }
+    }
+
+    /**
+     * Exhaust the budget if the time limit has passed.
+     */
+    public void checkTime() {
+        if (exhaustion == null && isPastDeadline()) {
+            exhaustTime();
+        }
+    }
+
+    /**
+     * Whether a pattern is found in a text, giving up once the time limit passes. A backtracking
+     * pattern can spend far longer on one string than visiting values ever would, so the clock is
+     * also read while the text is being matched.
+     *
+     * @return Whether the pattern was found; false if the budget ran out first
+     */
+    boolean find(Pattern pattern, String text) {
+        if (exhaustion != null) {
+            return false;
+        }
+        try {
+            return pattern.matcher(new TimedText(text)).find();
+        } catch (TimeLimitReached e) {
+            exhaustTime();
+            return false;
+        }
+    }
+
+    /**
+     * Exhaust the budget because the payload is larger than allowed.
+     */
+    public void exceedSize(long maxBytes, long actualBytes) {
+        exhaustion = new Exhaustion("%s exceeds the validation size limit", "bytes <= " + maxBytes, actualBytes,
+                ValidationError.TYPE_BUDGET_EXCEEDED);
+    }
+
+    public boolean isExhausted() {
+        return exhaustion != null;
+    }
+
+    /**
+     * Add the error describing the exhausted limit, if any, to a result.
+     *
+     * @param field Root field of the checked document, e.g. {@code requestPayload}
+     * @param description Name of the document used in messages, e.g. {@code payload}
+     */
+    public void reportTo(ValidationResult result, String field, String description) {
+        if (exhaustion == null) {
+            return;
+        }
+        String subject = description.substring(0, 1).toUpperCase(Locale.ROOT) + description.substring(1);
+        result.addError(ValidationError.builder()
+                .field(field)
+                .message(String.format(exhaustion.message(), subject))
+                .expectedType(exhaustion.limit())
+                .actualValue(exhaustion.actualValue())
+                .errorType(exhaustion.errorType())
+                .build());
+    }
+
+    private boolean isPastDeadline() {
+        return System.nanoTime() - startNanos > maxDurationNanos;
+    }
+
+    /**
+     * Whether an error reports the time limit, the one limit whose outcome depends on more than
+     * the validated document.
+     */
+    public static boolean isTimeLimitError(ValidationError error) {
+        return ValidationError.TYPE_BUDGET_EXCEEDED.equals(error.getErrorType())
+                && error.getExpectedType() != null && error.getExpectedType().startsWith(TIME_LIMIT);
+    }
+
+    private void exhaustTime() {
+        exhaust("Validation exceeded its time limit", TIME_LIMIT + maxDurationNanos / 1_000_000L + "ms",
+                ValidationError.TYPE_BUDGET_EXCEEDED);
+    }
+
+    private void exhaust(String message, String limit, String errorType) {
+        exhaustion = new Exhaustion(message, limit, null, errorType);
+    }
+
+    /**
+     * @param message The message, with {@code %s} standing for the name of the checked document
+     */
+    private record Exhaustion(String message, String limit, Object actualValue, String errorType) {
+    }
+
+    /**
+     * Text that aborts the match it is read by once the time limit has passed.
+     */
+    private final class TimedText implements CharSequence {
+
+        private final String text;
+        private int reads;
+
+        TimedText(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % MATCH_TIME_CHECK_INTERVAL == 0 && isPastDeadline()) {
+                throw TimeLimitReached.INSTANCE;
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Unwinds a pattern match that ran out of time; carries no stack trace, as it is never reported.
+     */
+    private static final class TimeLimitReached extends RuntimeException {
+
+        static final TimeLimitReached INSTANCE = new TimeLimitReached();
+
+        private TimeLimitReached() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+
+import java.util.regex.Pattern;
+
+/**
+ * Mutable state for one run of a schema validator tree.
+ * Tracks the location of the value being checked and records errors on the result.
+ * The location is only rendered into a field name when an error is reported.
+ *
+ * A probe context, used to evaluate {@code anyOf}/{@code oneOf} branches, records nothing
+ * and stops at the first error. Probes share the {@link ValidationBudget} of the context
+ * they were created from, so work done in discarded branches still counts against it.
+ */
+public class ValidationContext {
+
+    private final StringBuilder path;
+    private final ValidationResult result;
+    private final ValidationBudget budget;
+    private int errorCount;
+
+    /**
+     * @param rootField Field name reported for the root value, e.g. {@code requestPayload}
+     * @param result The result errors are added to
+     */
+    public ValidationContext(String rootField, ValidationResult result) {
+        this(rootField, result, ValidationBudget.unlimited());
+    }
+
+    /**
+     * @param rootField Field name reported for the root value, e.g. {@code requestPayload}
+     * @param result The result errors are added to
+     * @param budget Limits on the work this validation may do
+     */
+    public ValidationContext(String rootField, ValidationResult result, ValidationBudget budget) {
+        this.path = new StringBuilder(64).append(rootField);
+        this.result = result;
+        this.budget = budget;
+    }
+
+    private ValidationContext(ValidationBudget budget) {
+        this.path = null;
+        this.result = null;
+        this.budget = budget;
+    }
+
+    /**
+     * Create a context that only counts errors, for evaluating alternative branches.
+     */
+    public ValidationContext probe() {
+        return new ValidationContext(budget);
+    }
+
+    public int enterProperty(String name) {
+        budget.enter();
+        if (path == null) {
+            return 0;
+        }
+        int mark = path.length();
+        path.append('.').append(name);
+        return mark;
+    }
+
+    public int enterIndex(int index) {
+        budget.enter();
+        if (path == null) {
+            return 0;
+        }
+        int mark = path.length();
+        path.append('[').append(index).append(']');
+        return mark;
+    }
+
+    public void leave(int mark) {
+        budget.leave();
+        if (path != null) {
+            path.setLength(mark);
+        }
+    }
+
+    /**
+     * Report an error for the value at the current location.
+     */
+    public void addError(String message, String expectedType, JsonNode actualValue) {
+        addError(path, message, expectedType, result != null ? summarize(actualValue) : null);
+    }
+
+    /**
+     * Report an error for a value read from a token stream, already summarised by the caller.
+     */
+    public void addError(String message, String expectedType, Object actualValue) {
+        addError(path, message, expectedType, actualValue);
+    }
+
+    /**
+     * Report an error for a property of the object at the current location.
+     */
+    public void addPropertyError(String property, String message, String expectedType, Object actualValue) {
+        addError(path != null ? path + "." + property : null, message, expectedType, actualValue);
+    }
+
+    /**
+     * Whether a pattern is found in a text, within the time limit of the budget.
+     */
+    public boolean find(Pattern pattern, String text) {
+        return budget.find(pattern, text);
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Whether validators should stop checking further keywords and children.
+     */
+    public boolean isAborted() {
+        return budget.isExhausted() || (result == null && errorCount > 0);
+    }
+
+    private void addError(CharSequence field, String message, String expectedType, Object actualValue) {
+        if (budget.isExhausted()) {
+            return;
+        }
+        errorCount++;
+        if (result != null) {
+            result.addError(ValidationError.builder()
+                    .field(field.toString())
+                    .message(message)
+                    .expectedType(expectedType)
+                    .actualValue(actualValue)
+                    .build());
+            budget.recordError();
+        }
+    }
+
+    /**
+     * Reduce a value to something small enough to store with an error.
+     * Containers are reported by their type only.
+     */
+    private static Object summarize(JsonNode value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.isObject()) {
+            return "object";
+        }
+        if (value.isArray()) {
+            return "array";
+        }
+        if (value.isNull()) {
+            return null;
+        }
+        return value.isNumber() ? value.numberValue() : value.asText();
+    }
+}
@@ -0,0 +1,114 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.service.validation.CompiledSpecification;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CompiledSpecificationRegistry.
+ * Tests resolving versions by timestamp, retention of old versions, the weight budget and snapshot isolation.
+ */
+class CompiledSpecificationRegistryTest {
+
+    private static final UUID SPEC_ID = UUID.randomUUID();
+    private static final LocalDateTime FIRST_UPLOAD = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void resolve_shouldReturnTheVersionActiveAtTheTimestamp() {
+        // Given
+        CompiledSpecificationRegistry registry = new CompiledSpecificationRegistry(5);
+        registry.publish(version("1.0.0", FIRST_UPLOAD));
+        registry.publish(version("2.0.0", FIRST_UPLOAD.plusDays(1)));
+
+        // When/Then
+        assertThat(registry.resolve(SPEC_ID, FIRST_UPLOAD.plusHours(1)).getVersion()).isEqualTo("1.0.0");
+        assertThat(registry.resolve(SPEC_ID, FIRST_UPLOAD.plusDays(1)).getVersion()).isEqualTo("2.0.0");
+        assertThat(registry.resolve(SPEC_ID, FIRST_UPLOAD.plusDays(2)).getVersion()).isEqualTo("2.0.0");
+        assertThat(registry.resolve(SPEC_ID, null).getVersion()).isEqualTo("2.0.0");
+        assertThat(registry.resolve(SPEC_ID, FIRST_UPLOAD.minusDays(1)).getVersion()).isEqualTo("1.0.0");
+        assertThat(registry.resolve(UUID.randomUUID(), FIRST_UPLOAD)).isNull();
+    }
+
+    @Test
+    void publish_shouldKeepOnlyTheNewestRetainedVersions() {
+        // Given
+        CompiledSpecificationRegistry registry = new CompiledSpecificationRegistry(3);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            registry.publish(version(i + ".0.0", FIRST_UPLOAD.plusDays(i)));
+        }
+        registry.publish(version("2.0.0", FIRST_UPLOAD.plusDays(2)));
+
+        // Then
+        assertThat(registry.versions(SPEC_ID)).extracting(SpecificationVersion::getVersion)
+                .containsExactly("4.0.0", "3.0.0", "2.0.0");
+        assertThat(registry.latest(SPEC_ID).getVersion()).isEqualTo("4.0.0");
+    }
+
+    @Test
+    void versions_shouldNotSeeVersionsPublishedAfterwards() {
+        // Given
+        CompiledSpecificationRegistry registry = new CompiledSpecificationRegistry(5);
+        registry.publish(version("1.0.0", FIRST_UPLOAD));
+        List<SpecificationVersion> snapshot = registry.versions(SPEC_ID);
+
+        // When
+        registry.publish(version("2.0.0", FIRST_UPLOAD.plusDays(1)));
+
+        // Then
+        assertThat(snapshot).extracting(SpecificationVersion::getVersion).containsExactly("1.0.0");
+        assertThat(registry.versions(SPEC_ID)).hasSize(2);
+    }
+
+    @Test
+    void publish_beyondWeightBudget_shouldDropSupersededVersionsFirst() {
+        // Given
+        CompiledSpecificationRegistry registry = new CompiledSpecificationRegistry(5, 300);
+        UUID otherId = UUID.randomUUID();
+        registry.publish(weighted(SPEC_ID, FIRST_UPLOAD, 100));
+        registry.publish(weighted(otherId, FIRST_UPLOAD.plusHours(1), 100));
+        registry.publish(weighted(SPEC_ID, FIRST_UPLOAD.plusDays(1), 100));
+
+        // When
+        registry.publish(weighted(SPEC_ID, FIRST_UPLOAD.plusDays(2), 100));
+
+        // Then
+        assertThat(registry.versions(SPEC_ID)).extracting(SpecificationVersion::getUpdatedAt)
+                .containsExactly(FIRST_UPLOAD.plusDays(2), FIRST_UPLOAD.plusDays(1));
+        assertThat(registry.latest(otherId)).isNotNull();
+    }
+
+    @Test
+    void publish_whenOnlyCurrentVersionsRemain_shouldDropTheLeastRecentlyUpdated() {
+        // Given
+        CompiledSpecificationRegistry registry = new CompiledSpecificationRegistry(5, 200);
+        UUID otherId = UUID.randomUUID();
+        UUID newestId = UUID.randomUUID();
+        registry.publish(weighted(SPEC_ID, FIRST_UPLOAD, 100));
+        registry.publish(weighted(otherId, FIRST_UPLOAD.plusDays(1), 100));
+
+        // When
+        registry.publish(weighted(newestId, FIRST_UPLOAD.plusDays(2), 100));
+
+        // Then
+        assertThat(registry.latest(SPEC_ID)).isNull();
+        assertThat(registry.latest(otherId)).isNotNull();
+        assertThat(registry.latest(newestId)).isNotNull();
+    }
+
+    private static SpecificationVersion weighted(UUID specificationId, LocalDateTime updatedAt, long weight) {
+        return new SpecificationVersion(specificationId, "1.0.0", updatedAt,
+                new CompiledSpecification(new OpenAPI(), null, weight));
+    }
+
+    private SpecificationVersion version(String version, LocalDateTime updatedAt) {
+        return new SpecificationVersion(SPEC_ID, version, updatedAt, null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fnb.apierrorlogger.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ContentDigest.
+ * Tests that encoding in chunks digests the same bytes as encoding the whole string.
+ */
+class ContentDigestTest {
+
+    static Stream<String> contents() {
+        return Stream.of(
+                "",
+                "{\"amount\": 1}",
+                "é€😀".repeat(5000),
+                // A surrogate pair split across two chunks
+                "x".repeat(8191) + "😀" + "y",
+                "a\uD800b",
+                "z".repeat(100_000));
+    }
+
+    @ParameterizedTest
+    @MethodSource("contents")
+    void sha256_shouldMatchTheDigestOfTheWholeUtf8Encoding(String content) throws Exception {
+        // Given
+        byte[] whole = content.getBytes(StandardCharsets.UTF_8);
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(whole));
+
+        // When
+        String digest = ContentDigest.sha256(content);
+
+        // Then
+        assertThat(digest).isEqualTo(expected);
+    }
+}
@@ -2,12 +2,19 @@ package com.fnb.apierrorlogger.service;
 
 import com.fnb.apierrorlogger.model.OpenAPISpecification;
 import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationSummary;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +33,9 @@ class OpenAPIManagerTest {
     @Autowired
     private OpenAPISpecificationRepository repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private OpenAPIManager openAPIManager;
 
     // Valid OpenAPI 3.0 specification in JSON format
@@ -114,6 +124,23 @@ class OpenAPIManagerTest {
         assertThat(result.getVersion()).isEqualTo("2.0.0");
     }
 
+    @Test
+    void uploadSpecification_shouldStoreResolvedFormThatLoadsWithoutTheParser() {
+        // When
+        OpenAPISpecification result = openAPIManager.uploadSpecification(
+                "test-api-resolved",
+                VALID_YAML_SPEC,
+                "test-user"
+        );
+
+        // Then
+        assertThat(result.getResolvedContent()).startsWith("{");
+        OpenAPI openAPI = ResolvedSpecificationCodec.read(result.getResolvedContent());
+        assertThat(openAPI.getInfo().getVersion()).isEqualTo("2.0.0");
+        assertThat(openAPI.getPaths()).containsKey("/test");
+        assertThat(openAPI.getPaths().get("/test").getGet().getResponses()).containsKey("200");
+    }
+
     @Test
     void uploadSpecification_withInvalidSpec_shouldThrowException() {
         // When/Then
@@ -179,6 +206,31 @@ class OpenAPIManagerTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getSpecificationUpdatedAt_shouldReturnUpdateTimeOnlyForExistingIds() {
+        // Given
+        OpenAPISpecification uploaded = openAPIManager.uploadSpecification("test-api", VALID_JSON_SPEC, "test-user");
+
+        // When/Then
+        assertThat(openAPIManager.getSpecificationUpdatedAt(uploaded.getId())).contains(uploaded.getUpdatedAt());
+        assertThat(openAPIManager.getSpecificationUpdatedAt(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void getSpecificationUpdatedAt_withNullUpdateTime_shouldFallBackToUploadTime() {
+        // Given
+        OpenAPISpecification uploaded = openAPIManager.uploadSpecification("test-api", VALID_JSON_SPEC, "test-user");
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE openapi_specifications SET updated_at = NULL WHERE id = :id")
+                .setParameter("id", uploaded.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // When/Then
+        assertThat(openAPIManager.getSpecificationUpdatedAt(uploaded.getId())).contains(uploaded.getUploadedAt());
+    }
+
     @Test
     void getSpecificationByApiIdentifier_withExistingIdentifier_shouldReturnSpecification() {
         // Given
@@ -225,6 +277,27 @@ class OpenAPIManagerTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getSpecificationSummaries_shouldReturnRequestedPage() {
+        // Given
+        openAPIManager.uploadSpecification("api-1", VALID_JSON_SPEC, "user-1");
+        openAPIManager.uploadSpecification("api-2", VALID_YAML_SPEC, "user-2");
+        openAPIManager.uploadSpecification("api-3", VALID_JSON_SPEC, "user-3");
+
+        // When
+        Page<OpenAPISpecificationSummary> result = openAPIManager.getSpecificationSummaries(
+                PageRequest.of(1, 2, Sort.by("apiIdentifier")));
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.getContent()).singleElement().satisfies(summary -> {
+            assertThat(summary.getApiIdentifier()).isEqualTo("api-3");
+            assertThat(summary.getVersion()).isEqualTo("1.0.0");
+            assertThat(summary.getUploadedAt()).isNotNull();
+        });
+    }
+
     @Test
     void updateSpecification_withValidSpec_shouldSucceed() {
         // Given
@@ -250,6 +323,63 @@ class OpenAPIManagerTest {
         assertThat(updated.getUpdatedAt()).isAfter(uploaded.getUpdatedAt());
     }
 
+    @Test
+    void updateSpecification_withUnchangedContent_shouldSkipTheUpdate() {
+        // Given
+        List<Object> events = new ArrayList<>();
+        openAPIManager = new OpenAPIManager(repository, events::add, SpecificationParser.defaults());
+        OpenAPISpecification uploaded = openAPIManager.uploadSpecification(
+                "test-api",
+                VALID_JSON_SPEC,
+                "test-user"
+        );
+
+        // When
+        OpenAPISpecification updated = openAPIManager.updateSpecification(
+                uploaded.getId(),
+                VALID_JSON_SPEC,
+                "ci-pipeline"
+        );
+
+        // Then
+        assertThat(updated.getContentDigest()).isEqualTo(ContentDigest.sha256(VALID_JSON_SPEC));
+        assertThat(updated.getUploadedBy()).isEqualTo("test-user");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void uploadSpecification_withContentOfAnotherApi_shouldReuseItsParsedForm() {
+        // Given
+        OpenAPISpecification first = openAPIManager.uploadSpecification("first-api", VALID_YAML_SPEC, "test-user");
+
+        // When
+        OpenAPISpecification second = openAPIManager.uploadSpecification("second-api", VALID_YAML_SPEC, "test-user");
+
+        // Then
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(second.getContentDigest()).isEqualTo(first.getContentDigest());
+        assertThat(second.getResolvedContent()).isEqualTo(first.getResolvedContent());
+        assertThat(second.getVersion()).isEqualTo("2.0.0");
+    }
+
+    @Test
+    void uploadSpecification_shouldStoreCompressedContentAndMetadata() {
+        // Given
+        String largeSpec = VALID_YAML_SPEC + "# padding\n".repeat(500);
+        UUID id = openAPIManager.uploadSpecification("compressed-api", largeSpec, "test-user").getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        OpenAPISpecification stored = repository.findById(id).orElseThrow();
+
+        // Then
+        assertThat(stored.getCompressedContent().length).isLessThan(largeSpec.length() / 10);
+        assertThat(stored.getSpecContent()).isEqualTo(largeSpec);
+        assertThat(stored.getTitle()).isEqualTo("Test API");
+        assertThat(stored.getPathCount()).isEqualTo(1);
+    }
+
     @Test
     void updateSpecification_withInvalidSpec_shouldThrowException() {
         // Given
@@ -0,0 +1,132 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.repository.ErrorRequestRepository;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PendingValidationRetry.
+ * Tests that deferred validations are resolved and emailed once they pass.
+ */
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class PendingValidationRetryTest {
+
+    private static final String SPEC = """
+            {
+              "openapi": "3.0.0",
+              "info": {"title": "Test API", "version": "1.0.0"},
+              "paths": {
+                "/accounts": {
+                  "post": {
+                    "requestBody": {
+                      "content": {
+                        "application/json": {
+                          "schema": {"type": "object", "required": ["amount"]}
+                        }
+                      }
+                    },
+                    "responses": {"200": {"description": "OK"}}
+                  }
+                }
+              }
+            }
+            """;
+
+    @Autowired
+    private ErrorRequestRepository errorRequestRepository;
+
+    @Autowired
+    private OpenAPISpecificationRepository specificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final EmailService emailService = mock(EmailService.class);
+    private PendingValidationRetry pendingValidationRetry;
+    private OpenAPISpecification specification;
+
+    @BeforeEach
+    void setUp() {
+        when(emailService.sendErrorNotification(any(), any())).thenReturn(true);
+        pendingValidationRetry = new PendingValidationRetry(errorRequestRepository, specificationRepository,
+                new ValidationEngine(), emailService, transactionManager, 2, true);
+
+        specification = specificationRepository.save(OpenAPISpecification.builder()
+                .apiIdentifier("accounts-api")
+                .specContent(SPEC)
+                .version("1.0.0")
+                .build());
+    }
+
+    @Test
+    void retry_shouldResolvePendingRowsAndEmailThoseThatPass() {
+        // Given
+        ErrorRequest valid = errorRequestRepository.save(errorRequest("pending", "{\"amount\": 1}"));
+        ErrorRequest invalid = errorRequestRepository.save(errorRequest("pending", "{}"));
+        ErrorRequest passed = errorRequestRepository.save(errorRequest("passed", "{\"amount\": 1}"));
+        for (int i = 0; i < 3; i++) {
+            errorRequestRepository.save(errorRequest("pending", "{}"));
+        }
+
+        // When
+        int resolved = pendingValidationRetry.retry();
+
+        // Then
+        errorRequestRepository.flush();
+        assertThat(resolved).isEqualTo(5);
+        assertThat(errorRequestRepository.findByValidationStatus("pending")).isEmpty();
+        ErrorRequest validRow = errorRequestRepository.findById(valid.getId()).orElseThrow();
+        assertThat(validRow.getValidationStatus()).isEqualTo("passed");
+        assertThat(validRow.getEmailDeliveryStatus()).isEqualTo("sent");
+        assertThat(errorRequestRepository.findById(invalid.getId()).orElseThrow().getValidationStatus())
+                .isEqualTo("failed");
+        verify(emailService, times(1)).sendErrorNotification(argThat(row -> row.getId().equals(valid.getId())), any());
+        verify(emailService, never()).sendErrorNotification(argThat(row -> row.getId().equals(passed.getId())), any());
+    }
+
+    @Test
+    void retry_withoutPendingRows_shouldDoNothing() {
+        // Given
+        errorRequestRepository.save(errorRequest("failed", "{}"));
+
+        // When
+        int resolved = pendingValidationRetry.retry();
+
+        // Then
+        assertThat(resolved).isZero();
+        verify(emailService, never()).sendErrorNotification(any(), any());
+    }
+
+    private ErrorRequest errorRequest(String validationStatus, String payload) {
+        return ErrorRequest.builder()
+                .apiEndpoint("/accounts")
+                .httpMethod("POST")
+                .requestPayload(payload)
+                .responseStatus(500)
+                .responseBody("{}")
+                .timestamp(LocalDateTime.now().plusMinutes(1))
+                .environment("test")
+                .openApiSpecId(specification.getId())
+                .validationStatus(validationStatus)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.RevalidationJobResponse;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.repository.ErrorRequestRepository;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for RevalidationService.
+ * Tests chunked re-validation, progress accounting and cancellation.
+ */
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class RevalidationServiceTest {
+
+    private static final String SPEC = """
+            {
+              "openapi": "3.0.0",
+              "info": {"title": "Test API", "version": "2.0.0"},
+              "paths": {
+                "/accounts": {
+                  "post": {
+                    "requestBody": {
+                      "content": {
+                        "application/json": {
+                          "schema": {"type": "object", "required": ["amount"]}
+                        }
+                      }
+                    },
+                    "responses": {"200": {"description": "OK"}}
+                  }
+                }
+              }
+            }
+            """;
+
+    @Autowired
+    private ErrorRequestRepository errorRequestRepository;
+
+    @Autowired
+    private OpenAPISpecificationRepository specificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RevalidationService revalidationService;
+    private OpenAPISpecification specification;
+
+    @BeforeEach
+    void setUp() {
+        revalidationService = new RevalidationService(errorRequestRepository, specificationRepository,
+                new ValidationEngine(), mock(EmailService.class), transactionManager, new SyncTaskExecutor(), 10, true);
+
+        specification = specificationRepository.save(OpenAPISpecification.builder()
+                .apiIdentifier("accounts-api")
+                .specContent(SPEC)
+                .version("2.0.0")
+                .build());
+    }
+
+    @Test
+    void startRevalidation_shouldUpdateEveryLinkedRowInChunks() {
+        // Given
+        for (int i = 0; i < 25; i++) {
+            errorRequestRepository.save(errorRequest(specification.getId(), i % 2 == 0 ? "{\"amount\": 1}" : "{}"));
+        }
+        ErrorRequest unrelated = errorRequestRepository.save(errorRequest(null, "{}"));
+
+        // When
+        RevalidationJob job = revalidationService.startRevalidation(specification.getId());
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(RevalidationJob.STATUS_COMPLETED);
+        assertThat(job.getTotalRows()).isEqualTo(25);
+        assertThat(job.getProcessedRows().get()).isEqualTo(25);
+        assertThat(job.getPassedRows().get()).isEqualTo(13);
+        assertThat(job.getFailedRows().get()).isEqualTo(12);
+        assertThat(job.getChunks().get()).isEqualTo(3);
+
+        errorRequestRepository.flush();
+        assertThat(errorRequestRepository.findByOpenApiSpecId(specification.getId()))
+                .allSatisfy(row -> assertThat(row.getValidationStatus()).isIn("passed", "failed"))
+                .filteredOn(row -> "{}".equals(row.getRequestPayload()))
+                .allSatisfy(row -> assertThat(row.getValidationStatus()).isEqualTo("failed"));
+        assertThat(errorRequestRepository.findById(unrelated.getId()).orElseThrow().getValidationStatus())
+                .isEqualTo("stale");
+        assertThat(revalidationService.getJob(specification.getId())).contains(job);
+    }
+
+    @Test
+    void startRevalidation_withDeferredResults_shouldCountPendingRowsApartFromFailures() {
+        // Given
+        ValidationEngine deferringEngine = new ValidationEngine() {
+            @Override
+            public List<ValidationResult> validateBatch(List<ErrorRequest> errorRequests, OpenAPISpecification spec) {
+                List<ValidationResult> results = new ArrayList<>(super.validateBatch(errorRequests, spec));
+                for (int i = 0; i < errorRequests.size(); i++) {
+                    if ("{\"amount\": 2}".equals(errorRequests.get(i).getRequestPayload())) {
+                        ValidationResult deferred = ValidationResult.failure(new ArrayList<>());
+                        deferred.setRetryable(true);
+                        results.set(i, deferred);
+                    }
+                }
+                return results;
+            }
+        };
+        revalidationService = new RevalidationService(errorRequestRepository, specificationRepository,
+                deferringEngine, mock(EmailService.class), transactionManager, new SyncTaskExecutor(), 10, true);
+        errorRequestRepository.save(errorRequest(specification.getId(), "{\"amount\": 1}"));
+        errorRequestRepository.save(errorRequest(specification.getId(), "{\"amount\": 2}"));
+        errorRequestRepository.save(errorRequest(specification.getId(), "{\"amount\": 2}"));
+        errorRequestRepository.save(errorRequest(specification.getId(), "{}"));
+
+        // When
+        RevalidationJob job = revalidationService.startRevalidation(specification.getId());
+
+        // Then
+        assertThat(job.getProcessedRows().get()).isEqualTo(4);
+        assertThat(job.getPassedRows().get()).isEqualTo(1);
+        assertThat(job.getFailedRows().get()).isEqualTo(1);
+        assertThat(job.getPendingRows().get()).isEqualTo(2);
+        assertThat(RevalidationJobResponse.fromJob(job).getPendingRows()).isEqualTo(2);
+    }
+
+    @Test
+    void run_whenCancelled_shouldStopBeforeNextChunk() {
+        // Given
+        errorRequestRepository.save(errorRequest(specification.getId(), "{}"));
+        RevalidationJob job = new RevalidationJob(specification.getId());
+        job.cancel();
+
+        // When
+        revalidationService.run(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(RevalidationJob.STATUS_CANCELLED);
+        assertThat(job.getProcessedRows().get()).isZero();
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void run_withUnknownSpecification_shouldFail() {
+        // Given
+        RevalidationJob job = new RevalidationJob(UUID.randomUUID());
+
+        // When
+        revalidationService.run(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(RevalidationJob.STATUS_FAILED);
+        assertThat(job.getFailureMessage()).isEqualTo("Specification not found");
+    }
+
+    private ErrorRequest errorRequest(UUID specificationId, String payload) {
+        return ErrorRequest.builder()
+                .apiEndpoint("/accounts")
+                .httpMethod("POST")
+                .requestPayload(payload)
+                .responseStatus(500)
+                .responseBody("{}")
+                .timestamp(LocalDateTime.now())
+                .environment("test")
+                .openApiSpecId(specificationId)
+                .validationStatus("stale")
+                .build();
+    }
+}
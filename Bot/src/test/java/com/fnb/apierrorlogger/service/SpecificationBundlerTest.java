@@ -0,0 +1,173 @@
+package com.fnb.apierrorlogger.service;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SpecificationBundler.
+ * Tests copying components from referenced files, renaming on clashes and sharing parsed files.
+ */
+class SpecificationBundlerTest {
+
+    private static final String ROOT = """
+            openapi: 3.0.0
+            info:
+              title: Payments API
+              version: 1.0.0
+            paths:
+              /payments:
+                post:
+                  requestBody:
+                    content:
+                      application/json:
+                        schema:
+                          $ref: 'common/money.yaml#/components/schemas/Money'
+                  responses:
+                    '400':
+                      description: Bad request
+                      content:
+                        application/json:
+                          schema:
+                            $ref: './common/errors.yaml#/components/schemas/Error'
+            """;
+
+    private static final String MONEY = """
+            components:
+              schemas:
+                Money:
+                  type: object
+                  required: [amount, currency]
+                  properties:
+                    amount:
+                      type: number
+                    currency:
+                      $ref: '#/components/schemas/Currency'
+                Currency:
+                  type: string
+                  pattern: '^[A-Z]{3}$'
+            """;
+
+    private static final String ERRORS = """
+            components:
+              schemas:
+                Error:
+                  type: object
+                  properties:
+                    code:
+                      type: string
+                    amount:
+                      $ref: 'money.yaml#/components/schemas/Money'
+            """;
+
+    private final SharedComponentCache componentCache = new SharedComponentCache(SharedComponentCache.DEFAULT_MAX_WEIGHT);
+    private final SpecificationBundler bundler = new SpecificationBundler(componentCache,
+            DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100);
+
+    @Test
+    void bundle_shouldCopyReferencedComponentsIntoTheRoot() {
+        // When
+        String bundled = bundler.bundle(files(ROOT), null);
+
+        // Then
+        OpenAPI openAPI = parse(bundled);
+        assertThat(openAPI.getComponents().getSchemas()).containsOnlyKeys("Money", "Currency", "Error");
+        assertThat(openAPI.getComponents().getSchemas().get("Money").getProperties().get("currency").get$ref())
+                .isEqualTo("#/components/schemas/Currency");
+        assertThat(openAPI.getComponents().getSchemas().get("Error").getProperties().get("amount").get$ref())
+                .isEqualTo("#/components/schemas/Money");
+        assertThat(openAPI.getPaths().get("/payments").getPost().getRequestBody().getContent()
+                .get("application/json").getSchema().get$ref()).isEqualTo("#/components/schemas/Money");
+    }
+
+    @Test
+    void bundle_whenRootHasAComponentOfTheSameName_shouldRenameTheCopy() {
+        // Given
+        String root = ROOT + """
+                components:
+                  schemas:
+                    Error:
+                      type: string
+                """;
+
+        // When
+        OpenAPI openAPI = parse(bundler.bundle(files(root), "openapi.yaml"));
+
+        // Then
+        assertThat(openAPI.getComponents().getSchemas()).containsKeys("Error", "Error_2");
+        assertThat(openAPI.getComponents().getSchemas().get("Error").getType()).isEqualTo("string");
+        assertThat(openAPI.getPaths().get("/payments").getPost().getResponses().get("400").getContent()
+                .get("application/json").getSchema().get$ref()).isEqualTo("#/components/schemas/Error_2");
+    }
+
+    @Test
+    void bundle_shouldParseSharedFilesOnlyOnce() {
+        // Given
+        bundler.bundle(files(ROOT), null);
+        long misses = componentCache.getMissCount();
+
+        // When
+        bundler.bundle(files(ROOT.replace("Payments API", "Refunds API")), null);
+
+        // Then
+        assertThat(misses).isEqualTo(2);
+        assertThat(componentCache.getMissCount()).isEqualTo(misses);
+        assertThat(componentCache.getHitCount()).isPositive();
+    }
+
+    @Test
+    void bundle_shouldLookUpEachFileOnlyOncePerBundle() {
+        // Given money.yaml is referenced for both Money and, from inside the copy, Currency
+
+        // When
+        bundler.bundle(files(ROOT), null);
+
+        // Then
+        assertThat(componentCache.getHitCount() + componentCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void bundle_withMissingFile_shouldThrowIllegalArgument() {
+        // Given
+        Map<String, String> files = files(ROOT);
+        files.remove("common/errors.yaml");
+
+        // When/Then
+        assertThatThrownBy(() -> bundler.bundle(files, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("common/errors.yaml");
+    }
+
+    @Test
+    void bundle_withReferenceOutsideTheBundle_shouldThrowIllegalArgument() {
+        // Given
+        Map<String, String> files = files(ROOT.replace("common/money.yaml", "../../etc/money.yaml"));
+
+        // When/Then
+        assertThatThrownBy(() -> bundler.bundle(files, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("leaves the bundle");
+    }
+
+    private static Map<String, String> files(String root) {
+        Map<String, String> files = new HashMap<>();
+        files.put("openapi.yaml", root);
+        files.put("common/money.yaml", MONEY);
+        files.put("common/errors.yaml", ERRORS);
+        return files;
+    }
+
+    private static OpenAPI parse(String content) {
+        SwaggerParseResult result = new OpenAPIV3Parser().readContents(content, null, null);
+        assertThat(result.getMessages()).isEmpty();
+        return result.getOpenAPI();
+    }
+}
@@ -0,0 +1,153 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.CacheStatsResponse;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.service.validation.CompiledSpecification;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SpecificationCache.
+ * Tests hit/miss accounting, weight-based eviction, invalidation and sharing of identical content.
+ */
+class SpecificationCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<OpenAPISpecification, CompiledSpecification> loader = spec -> {
+        loads.incrementAndGet();
+        return new CompiledSpecification(new OpenAPI(), null, spec.getSpecContent().length());
+    };
+
+    @Test
+    void get_withSameVersion_shouldLoadOnce() {
+        // Given
+        SpecificationCache cache = new SpecificationCache(1000);
+        OpenAPISpecification spec = specification(UUID.randomUUID(), 100);
+
+        // When
+        CompiledSpecification first = cache.get(spec, loader);
+        CompiledSpecification second = cache.get(spec, loader);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getEntryCount()).isEqualTo(1);
+        assertThat(stats.getTotalWeight()).isEqualTo(100);
+    }
+
+    @Test
+    void get_withNewerVersion_shouldReload() {
+        // Given
+        SpecificationCache cache = new SpecificationCache(1000);
+        OpenAPISpecification spec = specification(UUID.randomUUID(), 100);
+        cache.get(spec, loader);
+
+        // When
+        spec.setUpdatedAt(spec.getUpdatedAt().plusSeconds(1));
+        cache.get(spec, loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_whenWeightExceeded_shouldEvictLeastRecentlyUsed() {
+        // Given
+        SpecificationCache cache = new SpecificationCache(250);
+        OpenAPISpecification first = specification(UUID.randomUUID(), 100);
+        OpenAPISpecification second = specification(UUID.randomUUID(), 100);
+        OpenAPISpecification third = specification(UUID.randomUUID(), 100);
+        cache.get(first, loader);
+        cache.get(second, loader);
+        cache.get(first, loader);
+
+        // When
+        cache.get(third, loader);
+
+        // Then
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+        assertThat(stats.getEntryCount()).isEqualTo(2);
+        assertThat(stats.getTotalWeight()).isEqualTo(200);
+
+        cache.get(first, loader);
+        assertThat(loads.get()).as("Recently used entry should survive eviction").isEqualTo(3);
+        cache.get(second, loader);
+        assertThat(loads.get()).as("Least recently used entry should have been evicted").isEqualTo(4);
+    }
+
+    @Test
+    void get_withUnsavedSpecification_shouldNotCache() {
+        // Given
+        SpecificationCache cache = new SpecificationCache(1000);
+        OpenAPISpecification spec = specification(null, 100);
+
+        // When
+        cache.get(spec, loader);
+        cache.get(spec, loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().getEntryCount()).isZero();
+    }
+
+    @Test
+    void onSpecificationUpdated_shouldInvalidateEntries() {
+        // Given
+        SpecificationCache cache = new SpecificationCache(1000);
+        OpenAPISpecification spec = specification(UUID.randomUUID(), 100);
+        cache.get(spec, loader);
+
+        // When
+        cache.onSpecificationUpdated(new SpecificationUpdatedEvent(spec.getId(), spec.getApiIdentifier()));
+
+        // Then
+        assertThat(cache.stats().getEntryCount()).isZero();
+        assertThat(cache.stats().getTotalWeight()).isZero();
+        cache.get(spec, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_withIdenticalContentDigest_shouldShareOneEntry() {
+        // Given
+        SpecificationCache cache = new SpecificationCache(1000);
+        OpenAPISpecification first = specification(UUID.randomUUID(), 100);
+        OpenAPISpecification second = specification(UUID.randomUUID(), 100);
+        first.setContentDigest(ContentDigest.sha256(first.getSpecContent()));
+        second.setContentDigest(ContentDigest.sha256(second.getSpecContent()));
+
+        // When
+        CompiledSpecification compiledFirst = cache.get(first, loader);
+        CompiledSpecification compiledSecond = cache.get(second, loader);
+        cache.onSpecificationUpdated(new SpecificationUpdatedEvent(first.getId(), first.getApiIdentifier()));
+
+        // Then
+        assertThat(compiledSecond).isSameAs(compiledFirst);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().getEntryCount()).as("Content-addressed entries never go stale").isEqualTo(1);
+    }
+
+    private OpenAPISpecification specification(UUID id, int contentLength) {
+        return OpenAPISpecification.builder()
+                .id(id)
+                .apiIdentifier("test-api")
+                .specContent("x".repeat(contentLength))
+                .version("1.0.0")
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
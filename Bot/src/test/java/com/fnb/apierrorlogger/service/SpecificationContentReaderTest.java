@@ -0,0 +1,99 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.exception.SpecificationTooLargeException;
+import com.fnb.apierrorlogger.exception.UnsupportedContentEncodingException;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SpecificationContentReader.
+ * Tests plain and gzip bodies, the decompressed size limit and unsupported encodings.
+ */
+class SpecificationContentReaderTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths: {}
+            """;
+
+    private final SpecificationContentReader reader = new SpecificationContentReader(DataSize.ofKilobytes(1));
+
+    @Test
+    void read_withPlainBody_shouldReturnContent() throws IOException {
+        // Given
+        byte[] body = SPEC.getBytes(StandardCharsets.UTF_8);
+
+        // When
+        String content = reader.read(new ByteArrayInputStream(body), null, body.length);
+
+        // Then
+        assertThat(content).isEqualTo(SPEC);
+    }
+
+    @Test
+    void read_withGzipBody_shouldDecompress() throws IOException {
+        // Given
+        byte[] body = gzip(SPEC);
+
+        // When
+        String content = reader.read(new ByteArrayInputStream(body), "gzip", body.length);
+
+        // Then
+        assertThat(content).isEqualTo(SPEC);
+    }
+
+    @Test
+    void read_whenDecompressedSizeExceedsLimit_shouldRefuse() throws IOException {
+        // Given
+        byte[] body = gzip(" ".repeat(100_000));
+
+        // When/Then
+        assertThat(body.length).isLessThan(1024);
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(body), "gzip", body.length))
+                .isInstanceOf(SpecificationTooLargeException.class);
+    }
+
+    @Test
+    void read_whenDeclaredLengthExceedsLimit_shouldRefuseBeforeReading() {
+        // When/Then
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(new byte[0]), null, 2048))
+                .isInstanceOf(SpecificationTooLargeException.class);
+    }
+
+    @Test
+    void read_withUnsupportedEncoding_shouldRefuse() {
+        // When/Then
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(new byte[0]), "zstd", 0))
+                .isInstanceOf(UnsupportedContentEncodingException.class);
+    }
+
+    @Test
+    void read_withCorruptGzipBody_shouldThrowIllegalArgument() {
+        // Given
+        byte[] body = "not gzip".getBytes(StandardCharsets.UTF_8);
+
+        // When/Then
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(body), "gzip", body.length))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
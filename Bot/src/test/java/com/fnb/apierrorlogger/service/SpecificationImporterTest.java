@@ -0,0 +1,259 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.SpecificationImportReport;
+import com.fnb.apierrorlogger.dto.SpecificationImportResult;
+import com.fnb.apierrorlogger.exception.SpecificationTooLargeException;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for SpecificationImporter.
+ * Tests per-file outcomes of creating, updating and rejecting specifications from one archive,
+ * and parsing on a pool shared by all imports.
+ */
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class SpecificationImporterTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: %s
+            paths:
+              /test:
+                get:
+                  responses:
+                    '200':
+                      description: Success
+            """;
+
+    @Autowired
+    private OpenAPISpecificationRepository repository;
+
+    private OpenAPIManager openAPIManager;
+    private SpecificationImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        openAPIManager = new OpenAPIManager(repository);
+        importer = importer(500);
+        repository.deleteAll();
+    }
+
+    @Test
+    void importArchive_shouldReportTheOutcomeOfEveryFile() throws IOException {
+        // Given
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("payments.yaml", SPEC.formatted("1.0.0"));
+        files.put("retail/accounts.json", """
+                {"openapi": "3.0.0", "info": {"title": "Accounts", "version": "2.0.0"}, "paths": {}}
+                """);
+        files.put("broken.yml", "{\"invalid\": \"spec\"}");
+        files.put("README.md", "Specifications");
+        files.put("__MACOSX/._payments.yaml", "");
+
+        // When
+        SpecificationImportReport report = importer.importArchive(zip(files), "test-user");
+
+        // Then
+        assertThat(report.getFiles()).extracting(SpecificationImportResult::getApiIdentifier,
+                        SpecificationImportResult::getStatus)
+                .containsExactly(
+                        tuple("payments", SpecificationImporter.STATUS_CREATED),
+                        tuple("accounts", SpecificationImporter.STATUS_CREATED),
+                        tuple("broken", SpecificationImporter.STATUS_FAILED),
+                        tuple(null, SpecificationImporter.STATUS_SKIPPED));
+        assertThat(report.getCreatedCount()).isEqualTo(2);
+        assertThat(report.getFailedCount()).isEqualTo(1);
+        assertThat(report.getSkippedCount()).isEqualTo(1);
+        assertThat(report.getFiles().get(2).getFailureMessage()).contains("Invalid OpenAPI specification");
+        assertThat(repository.findByApiIdentifier("accounts")).hasValueSatisfying(specification -> {
+            assertThat(specification.getVersion()).isEqualTo("2.0.0");
+            assertThat(specification.getUploadedBy()).isEqualTo("test-user");
+        });
+    }
+
+    @Test
+    void importArchive_shouldUpdateChangedAndSkipUnchangedSpecifications() throws IOException {
+        // Given
+        openAPIManager.uploadSpecification("payments", SPEC.formatted("1.0.0"), "test-user");
+        openAPIManager.uploadSpecification("accounts", SPEC.formatted("1.0.0"), "test-user");
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("payments.yaml", SPEC.formatted("1.1.0"));
+        files.put("accounts.yaml", SPEC.formatted("1.0.0"));
+
+        // When
+        SpecificationImportReport report = importer.importArchive(zip(files), "import-user");
+
+        // Then
+        assertThat(report.getFiles()).extracting(SpecificationImportResult::getStatus)
+                .containsExactly(SpecificationImporter.STATUS_UPDATED, SpecificationImporter.STATUS_UNCHANGED);
+        assertThat(repository.findByApiIdentifier("payments").orElseThrow().getVersion()).isEqualTo("1.1.0");
+        assertThat(repository.findByApiIdentifier("accounts").orElseThrow().getUploadedBy()).isEqualTo("test-user");
+    }
+
+    @Test
+    void importArchive_withTheSameApiTwice_shouldRejectTheSecondFile() throws IOException {
+        // Given
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("v1/payments.yaml", SPEC.formatted("1.0.0"));
+        files.put("v2/payments.yaml", SPEC.formatted("2.0.0"));
+
+        // When
+        SpecificationImportReport report = importer.importArchive(zip(files), "test-user");
+
+        // Then
+        assertThat(report.getFiles()).extracting(SpecificationImportResult::getStatus)
+                .containsExactly(SpecificationImporter.STATUS_CREATED, SpecificationImporter.STATUS_FAILED);
+        assertThat(repository.findByApiIdentifier("payments").orElseThrow().getVersion()).isEqualTo("1.0.0");
+    }
+
+    @Test
+    void importArchive_withTooManyFiles_shouldRefuse() throws IOException {
+        // Given
+        Map<String, String> files = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            files.put("api-" + i + ".yaml", SPEC.formatted("1.0." + i));
+        }
+        ByteArrayInputStream archive = zip(files);
+
+        // When/Then
+        assertThatThrownBy(() -> importer(2).importArchive(archive, "test-user"))
+                .isInstanceOf(SpecificationTooLargeException.class);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void importArchive_shouldParseMoreFilesAtOnceThanTheParserPoolRuns() throws IOException {
+        // Given
+        int files = SpecificationParser.DEFAULT_POOL_SIZE + 2;
+        CountDownLatch allStarted = new CountDownLatch(files);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        SpecificationParser parser = new SpecificationParser(SpecificationParser.DEFAULT_POOL_SIZE,
+                SpecificationParser.DEFAULT_QUEUE_CAPACITY, SpecificationParser.DEFAULT_TIMEOUT) {
+            @Override
+            public SwaggerParseResult parseOnCallingThread(String specContent, ParseOptions options) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                allStarted.countDown();
+                try {
+                    // Hold every parse until all of them have started
+                    allStarted.await(10, TimeUnit.SECONDS);
+                    return super.parseOnCallingThread(specContent, options);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+        openAPIManager = new OpenAPIManager(repository, event -> { }, parser);
+        Map<String, String> archive = new LinkedHashMap<>();
+        for (int i = 0; i < files; i++) {
+            archive.put("api-" + i + ".yaml", SPEC.formatted("1.0." + i));
+        }
+
+        // When
+        SpecificationImportReport report = new SpecificationImporter(openAPIManager, DataSize.ofMegabytes(1),
+                DataSize.ofMegabytes(10), 500, files, Duration.ofSeconds(30)).importArchive(zip(archive), "test-user");
+
+        // Then
+        assertThat(report.getCreatedCount()).isEqualTo(files);
+        assertThat(maxRunning.get()).isEqualTo(files).isGreaterThan(SpecificationParser.DEFAULT_POOL_SIZE);
+    }
+
+    @Test
+    void importArchive_concurrentImports_shouldShareOneBoundedPool() throws Exception {
+        // Given
+        int parallelism = 2;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        SpecificationParser parser = new SpecificationParser(SpecificationParser.DEFAULT_POOL_SIZE,
+                SpecificationParser.DEFAULT_QUEUE_CAPACITY, SpecificationParser.DEFAULT_TIMEOUT) {
+            @Override
+            public SwaggerParseResult parseOnCallingThread(String specContent, ParseOptions options) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                    // Nothing to store, so the imports stay out of the database
+                    return new SwaggerParseResult();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+        openAPIManager = new OpenAPIManager(repository, event -> { }, parser);
+        SpecificationImporter sharedImporter = new SpecificationImporter(openAPIManager, DataSize.ofMegabytes(1),
+                DataSize.ofMegabytes(10), 500, parallelism, Duration.ofSeconds(30));
+        Map<String, String> archive = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            archive.put("api-" + i + ".yaml", SPEC.formatted("1.0." + i));
+        }
+
+        // When
+        CompletableFuture<SpecificationImportReport> first = CompletableFuture.supplyAsync(() -> importQuietly(sharedImporter, archive));
+        CompletableFuture<SpecificationImportReport> second = CompletableFuture.supplyAsync(() -> importQuietly(sharedImporter, archive));
+
+        // Then
+        assertThat(first.get(10, TimeUnit.SECONDS).getFailedCount()).isEqualTo(3);
+        assertThat(second.get(10, TimeUnit.SECONDS).getFailedCount()).isEqualTo(3);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(parallelism);
+        sharedImporter.shutdown();
+    }
+
+    private static SpecificationImportReport importQuietly(SpecificationImporter importer, Map<String, String> archive) {
+        try {
+            return importer.importArchive(zip(archive), "test-user");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SpecificationImporter importer(int maxFiles) {
+        return new SpecificationImporter(openAPIManager, DataSize.ofMegabytes(1),
+                DataSize.ofMegabytes(10), maxFiles, 4, Duration.ofSeconds(30));
+    }
+
+    private static ByteArrayInputStream zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
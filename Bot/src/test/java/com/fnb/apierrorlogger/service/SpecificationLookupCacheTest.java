@@ -0,0 +1,100 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.repository.SpecificationReference;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SpecificationLookupCache.
+ * Tests cached lookups, invalidation on updates and the update time check fallback.
+ */
+class SpecificationLookupCacheTest {
+
+    private static final String API = "payments";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final OpenAPIManager openAPIManager = mock(OpenAPIManager.class);
+
+    @Test
+    void get_withinVerifyInterval_shouldNotQueryTheDatabaseAgain() {
+        // Given
+        SpecificationLookupCache cache = cache(Duration.ofMinutes(5));
+        when(openAPIManager.getSpecificationReferenceByApiIdentifier(API)).thenReturn(Optional.of(specification(UPDATED_AT)));
+
+        // When
+        cache.get(API);
+        Optional<SpecificationReference> second = cache.get(API);
+
+        // Then
+        assertThat(second).isPresent();
+        verify(openAPIManager, times(1)).getSpecificationReferenceByApiIdentifier(API);
+        verify(openAPIManager, never()).getSpecificationUpdatedAtByApiIdentifier(API);
+    }
+
+    @Test
+    void get_afterUpdateEvent_shouldReload() {
+        // Given
+        SpecificationLookupCache cache = cache(Duration.ofMinutes(5));
+        SpecificationReference original = specification(UPDATED_AT);
+        SpecificationReference updated = specification(UPDATED_AT.plusHours(1));
+        when(openAPIManager.getSpecificationReferenceByApiIdentifier(API))
+                .thenReturn(Optional.of(original), Optional.of(updated));
+        cache.get(API);
+
+        // When
+        cache.onSpecificationUpdated(new SpecificationUpdatedEvent(original.id(), API));
+
+        // Then
+        assertThat(cache.get(API)).containsSame(updated);
+    }
+
+    @Test
+    void get_afterVerifyInterval_shouldReuseTheEntryOnlyWhileItIsCurrent() {
+        // Given
+        SpecificationLookupCache cache = cache(Duration.ZERO);
+        SpecificationReference original = specification(UPDATED_AT);
+        SpecificationReference updated = specification(UPDATED_AT.plusHours(1));
+        when(openAPIManager.getSpecificationReferenceByApiIdentifier(API))
+                .thenReturn(Optional.of(original), Optional.of(updated));
+        when(openAPIManager.getSpecificationUpdatedAtByApiIdentifier(API))
+                .thenReturn(Optional.of(UPDATED_AT), Optional.of(UPDATED_AT.plusHours(1)));
+        cache.get(API);
+
+        // When/Then
+        assertThat(cache.get(API)).containsSame(original);
+        assertThat(cache.get(API)).containsSame(updated);
+        verify(openAPIManager, times(2)).getSpecificationReferenceByApiIdentifier(API);
+    }
+
+    @Test
+    void get_forUnknownApi_shouldNotCacheTheMiss() {
+        // Given
+        SpecificationLookupCache cache = cache(Duration.ofMinutes(5));
+        when(openAPIManager.getSpecificationReferenceByApiIdentifier(API))
+                .thenReturn(Optional.empty(), Optional.of(specification(UPDATED_AT)));
+
+        // When/Then
+        assertThat(cache.get(API)).isEmpty();
+        assertThat(cache.get(API)).isPresent();
+    }
+
+    private SpecificationLookupCache cache(Duration verifyAfter) {
+        return new SpecificationLookupCache(openAPIManager, 100, verifyAfter, verifyAfter);
+    }
+
+    private static SpecificationReference specification(LocalDateTime updatedAt) {
+        return new SpecificationReference(UUID.randomUUID(), API, "1.0.0", updatedAt, null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.exception.SpecificationParserBusyException;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SpecificationParser.
+ * Tests parsing on the worker pools and refusal when the upload lane cannot take more work.
+ */
+class SpecificationParserTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 3.1.4
+            paths: {}
+            """;
+
+    @Test
+    void parse_shouldReturnParsedSpecification() {
+        // Given
+        SpecificationParser parser = new SpecificationParser(1, 1, Duration.ofSeconds(10));
+
+        // When
+        SwaggerParseResult result = parser.parse(SPEC, null);
+
+        // Then
+        assertThat(result.getOpenAPI().getInfo().getVersion()).isEqualTo("3.1.4");
+    }
+
+    @Test
+    void parse_fromManyThreads_shouldCompleteWithinCapacity() {
+        // Given
+        SpecificationParser parser = new SpecificationParser(2, 8, Duration.ofSeconds(10));
+
+        // When
+        List<CompletableFuture<SwaggerParseResult>> results = new ArrayList<>();
+        for (int i = 0; i < parser.getCapacity(); i++) {
+            results.add(CompletableFuture.supplyAsync(() -> parser.parse(SPEC, null)));
+        }
+
+        // Then
+        assertThat(parser.getCapacity()).isEqualTo(10);
+        assertThat(results).allSatisfy(result -> assertThat(result.join().getOpenAPI()).isNotNull());
+    }
+
+    @Test
+    void parseForValidation_beyondCapacity_shouldNeverRefuse() {
+        // Given
+        SpecificationParser parser = new SpecificationParser(1, 1, 1, Duration.ofSeconds(10));
+
+        // When
+        List<CompletableFuture<SwaggerParseResult>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> parser.parseForValidation(SPEC, null)));
+        }
+
+        // Then
+        assertThat(results).allSatisfy(result -> assertThat(result.join().getOpenAPI()).isNotNull());
+    }
+
+    @Test
+    void parse_whenPoolCannotAcceptWork_shouldRefuseImmediately() {
+        // Given
+        SpecificationParser parser = new SpecificationParser(1, 1, Duration.ofSeconds(10));
+        parser.shutdown();
+
+        // When/Then
+        assertThatThrownBy(() -> parser.parse(SPEC, null))
+                .isInstanceOf(SpecificationParserBusyException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.SpecificationCompileTime;
+import com.fnb.apierrorlogger.dto.WarmUpReportResponse;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.repository.OpenAPISpecificationRepository;
+import com.fnb.apierrorlogger.service.validation.ValidationSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SpecificationWarmUp.
+ * Tests parallel compilation, failure reporting, the lazy mode and background recompilation on update.
+ */
+class SpecificationWarmUpTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /accounts:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private final OpenAPISpecificationRepository repository = mock(OpenAPISpecificationRepository.class);
+    private final SpecificationCache specificationCache = new SpecificationCache(SpecificationCache.DEFAULT_MAX_WEIGHT);
+    private final SpecificationParser specificationParser = SpecificationParser.defaults();
+    private final ValidationEngine validationEngine = new ValidationEngine(specificationCache,
+            ValidationSettings.defaults(), new ValidationResultCache(0, Duration.ofMinutes(1)),
+            ValidationMetrics.inMemory(), specificationParser,
+            new CompiledSpecificationRegistry(CompiledSpecificationRegistry.DEFAULT_RETAINED_VERSIONS));
+
+    @Test
+    void warmUp_shouldCompileEverySpecificationIntoTheCache() {
+        // Given
+        List<OpenAPISpecification> specifications = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            specifications.add(specification("api-" + i, SPEC));
+        }
+        when(repository.findAll()).thenReturn(specifications);
+
+        // When
+        WarmUpReportResponse report = warmUp(true).warmUp();
+
+        // Then
+        assertThat(report.getStatus()).isEqualTo(SpecificationWarmUp.STATUS_COMPLETED);
+        assertThat(report.getTotal()).isEqualTo(20);
+        assertThat(report.getCompiledCount()).isEqualTo(20);
+        assertThat(report.getSpecifications()).hasSize(20)
+                .isSortedAccordingTo((a, b) -> Long.compare(b.getCompileMillis(), a.getCompileMillis()))
+                .allSatisfy(compileTime -> assertThat(compileTime.getContentLength()).isEqualTo(SPEC.length()));
+        assertThat(specificationCache.stats().getEntryCount()).isEqualTo(20);
+    }
+
+    @Test
+    void warmUp_withUnparseableSpecification_shouldReportFailure() {
+        // Given
+        when(repository.findAll()).thenReturn(List.of(
+                specification("good-api", SPEC),
+                specification("bad-api", "not: [an openapi document")));
+
+        // When
+        WarmUpReportResponse report = warmUp(true).warmUp();
+
+        // Then
+        assertThat(report.getStatus()).isEqualTo(SpecificationWarmUp.STATUS_COMPLETED);
+        assertThat(report.getCompiledCount()).isEqualTo(1);
+        assertThat(report.getFailedCount()).isEqualTo(1);
+        assertThat(report.getSpecifications())
+                .filteredOn(compileTime -> !compileTime.isCompiled())
+                .extracting(SpecificationCompileTime::getApiIdentifier)
+                .containsExactly("bad-api");
+    }
+
+    @Test
+    void run_whenLazy_shouldSkipWarmUp() {
+        // Given
+        SpecificationWarmUp warmUp = warmUp(false);
+
+        // When
+        warmUp.run(null);
+
+        // Then
+        assertThat(warmUp.getReport().getStatus()).isEqualTo(SpecificationWarmUp.STATUS_SKIPPED);
+        assertThat(specificationCache.stats().getEntryCount()).isZero();
+    }
+
+    @Test
+    void onSpecificationUpdated_shouldCompileOffTheCallingThread() throws Exception {
+        // Given
+        OpenAPISpecification specification = specification("updated-api", SPEC);
+        CompletableFuture<String> loadingThread = new CompletableFuture<>();
+        when(repository.findById(specification.getId())).thenAnswer(invocation -> {
+            loadingThread.complete(Thread.currentThread().getName());
+            return Optional.of(specification);
+        });
+
+        // When
+        warmUp(true).onSpecificationUpdated(
+                new SpecificationUpdatedEvent(specification.getId(), specification.getApiIdentifier()));
+
+        // Then
+        assertThat(loadingThread.get(5, TimeUnit.SECONDS)).startsWith("spec-recompile-");
+    }
+
+    private SpecificationWarmUp warmUp(boolean eager) {
+        return new SpecificationWarmUp(new OpenAPIManager(repository), validationEngine, specificationParser,
+                eager, 4, Duration.ofMinutes(1));
+    }
+
+    private static OpenAPISpecification specification(String apiIdentifier, String content) {
+        return OpenAPISpecification.builder()
+                .id(UUID.randomUUID())
+                .apiIdentifier(apiIdentifier)
+                .specContent(content)
+                .version("1.0.0")
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
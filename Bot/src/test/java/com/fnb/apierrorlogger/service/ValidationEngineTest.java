@@ -0,0 +1,290 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.OpenAPISpecification;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.repository.SpecificationReference;
+import com.fnb.apierrorlogger.service.validation.ValidationSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ValidationEngine.
+ * Tests batch validation ordering, missing specification handling, timing metrics,
+ * validation against the specification version active at the request's timestamp and
+ * loading referenced specifications only when they are not cached.
+ */
+class ValidationEngineTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /accounts/{id}:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                post:
+                  requestBody:
+                    content:
+                      application/json:
+                        schema:
+                          type: object
+                          required: [amount]
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private ValidationEngine validationEngine;
+
+    @BeforeEach
+    void setUp() {
+        validationEngine = new ValidationEngine();
+    }
+
+    @Test
+    void validateBatch_shouldReturnResultsInInputOrder() {
+        // Given
+        OpenAPISpecification specification = specification(SPEC);
+        List<ErrorRequest> errorRequests = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            errorRequests.add(i % 3 == 0
+                    ? errorRequest("/unknown/" + i, "GET", null)
+                    : errorRequest("/accounts/" + i, "POST", i % 3 == 1 ? "{\"amount\": 1}" : "{}"));
+        }
+
+        // When
+        List<ValidationResult> results = validationEngine.validateBatch(errorRequests, specification);
+
+        // Then
+        assertThat(results).hasSize(500);
+        for (int i = 0; i < 500; i++) {
+            ValidationResult expected = validationEngine.validateRequest(errorRequests.get(i), specification);
+            assertThat(results.get(i).isValid()).as("result %d", i).isEqualTo(expected.isValid());
+            assertThat(results.get(i).getErrors()).as("result %d", i).isEqualTo(expected.getErrors());
+        }
+        assertThat(results.get(1).isValid()).isTrue();
+        assertThat(results.get(2).getErrors().get(0).getField()).isEqualTo("requestPayload.amount");
+        assertThat(results.get(3).getErrors().get(0).getField()).isEqualTo("apiEndpoint");
+    }
+
+    @Test
+    void validateBatch_withMissingSpecification_shouldFailEveryRequest() {
+        // Given
+        List<ErrorRequest> errorRequests = List.of(
+                errorRequest("/accounts/1", "GET", null),
+                errorRequest("/accounts/2", "GET", null));
+
+        // When
+        List<ValidationResult> results = validationEngine.validateBatch(errorRequests, null);
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.isValid()).isFalse();
+            assertThat(result.getErrors().get(0).getField()).isEqualTo("openApiSpecification");
+        });
+        assertThat(results.get(0)).isNotSameAs(results.get(1));
+    }
+
+    @Test
+    void validateRequest_shouldRecordPhaseTimingsTaggedByApiAndOutcome() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ValidationEngine engine = new ValidationEngine(new SpecificationCache(SpecificationCache.DEFAULT_MAX_WEIGHT),
+                ValidationSettings.defaults(), new ValidationResultCache(100, Duration.ofMinutes(1)),
+                new ValidationMetrics(meterRegistry), SpecificationParser.defaults(),
+                new CompiledSpecificationRegistry(CompiledSpecificationRegistry.DEFAULT_RETAINED_VERSIONS));
+        OpenAPISpecification specification = specification(SPEC);
+
+        // When
+        engine.validateRequest(errorRequest("/accounts/1", "POST", "{}"), specification);
+        engine.validateRequest(errorRequest("/accounts/1", "POST", "{}"), specification);
+
+        // Then
+        for (String phase : List.of("parse", "route", "parameter_check", "payload_parse", "schema_check")) {
+            assertThat(meterRegistry.get(ValidationMetrics.PHASE_METER)
+                    .tags("phase", phase, "apiIdentifier", "accounts-api", "outcome", "failed")
+                    .timer().count()).as(phase).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get(ValidationMetrics.REQUESTS_METER)
+                .tags("apiIdentifier", "accounts-api", "outcome", "failed", "cache", "hit")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void validateRequest_shouldUseTheVersionActiveAtTheRequestTimestamp() {
+        // Given
+        LocalDateTime firstUpload = LocalDateTime.now().minusHours(2);
+        OpenAPISpecification first = specification(SPEC);
+        first.setUpdatedAt(firstUpload);
+        OpenAPISpecification second = specification(SPEC.replace("required: [amount]", "properties: {}"));
+        second.setId(first.getId());
+        second.setUpdatedAt(firstUpload.plusHours(1));
+        validationEngine.warmUp(first);
+
+        ErrorRequest beforeUpdate = errorRequest("/accounts/1", "POST", "{}");
+        beforeUpdate.setTimestamp(firstUpload.plusMinutes(30));
+        ErrorRequest afterUpdate = errorRequest("/accounts/1", "POST", "{}");
+
+        // When
+        ValidationResult beforeResult = validationEngine.validateRequest(beforeUpdate, second);
+        ValidationResult afterResult = validationEngine.validateRequest(afterUpdate, second);
+
+        // Then
+        assertThat(beforeResult.isValid()).isFalse();
+        assertThat(afterResult.isValid()).isTrue();
+    }
+
+    @Test
+    void validateRequest_withResolvedForm_shouldNotParseTheOriginalText() {
+        // Given
+        OpenAPISpecification specification = specification("not an OpenAPI document");
+        specification.setResolvedContent(ResolvedSpecificationCodec.write(
+                new OpenAPIV3Parser().readContents(SPEC, null, null).getOpenAPI()));
+
+        // When
+        ValidationResult result = validationEngine.validateRequest(errorRequest("/accounts/1", "POST", "{}"), specification);
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).extracting(error -> error.getField()).doesNotContain("openApiSpecification");
+    }
+
+    @Test
+    void validateRequest_withResponseBodyOverBudget_shouldReportResponseErrorAndCache() {
+        // Given
+        ValidationResultCache resultCache = new ValidationResultCache(100, Duration.ofMinutes(1));
+        ValidationSettings settings = new ValidationSettings(ValidationSettings.DEFAULT_STREAMING_THRESHOLD_BYTES,
+                ValidationSettings.DEFAULT_MAX_DEPTH, ValidationSettings.DEFAULT_MAX_NODES, 32,
+                ValidationSettings.DEFAULT_MAX_DURATION_MILLIS, ValidationSettings.DEFAULT_MAX_ERRORS, "");
+        ValidationEngine engine = new ValidationEngine(new SpecificationCache(SpecificationCache.DEFAULT_MAX_WEIGHT),
+                settings, resultCache, ValidationMetrics.inMemory(), SpecificationParser.defaults(),
+                new CompiledSpecificationRegistry(CompiledSpecificationRegistry.DEFAULT_RETAINED_VERSIONS));
+        OpenAPISpecification specification = specification(SPEC.replace("""
+                        '200':
+                          description: OK
+                """, """
+                        '500':
+                          description: Error
+                          content:
+                            application/json:
+                              schema:
+                                type: object
+                """));
+        ErrorRequest errorRequest = errorRequest("/accounts/1", "POST", "{\"amount\": 1}");
+        errorRequest.setResponseBody("{\"message\": \"" + "x".repeat(64) + "\"}");
+
+        // When
+        ValidationResult result = engine.validateRequest(errorRequest, specification);
+        engine.validateRequest(errorRequest, specification);
+
+        // Then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getResponseErrors()).hasSize(1);
+        assertThat(result.getResponseErrors().get(0).getField()).isEqualTo("responseBody");
+        assertThat(result.getResponseErrors().get(0).getMessage())
+                .isEqualTo("Response body exceeds the validation size limit");
+        // The size limit depends on the input alone, so the result is reused
+        assertThat(resultCache.stats().getEntryCount()).isEqualTo(1);
+        assertThat(resultCache.stats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void validateRequest_whenParseTimesOut_shouldReturnRetryableResult() {
+        // Given
+        ValidationEngine engine = new ValidationEngine(new SpecificationCache(SpecificationCache.DEFAULT_MAX_WEIGHT),
+                ValidationSettings.defaults(), new ValidationResultCache(100, Duration.ofMinutes(1)),
+                ValidationMetrics.inMemory(), new SpecificationParser(1, 1, Duration.ZERO),
+                new CompiledSpecificationRegistry(CompiledSpecificationRegistry.DEFAULT_RETAINED_VERSIONS));
+
+        // When
+        ValidationResult result = engine.validateRequest(errorRequest("/accounts/1", "POST", "{}"), specification(SPEC));
+
+        // Then
+        assertThat(result.isRetryable()).isTrue();
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Validation deferred");
+    }
+
+    @Test
+    void validateRequest_withReference_shouldLoadTheContentOnlyOnACacheMiss() {
+        // Given
+        OpenAPISpecification specification = specification(SPEC);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<OpenAPISpecification> loader = () -> {
+            loads.incrementAndGet();
+            return specification;
+        };
+
+        // When
+        ValidationResult first = validationEngine.validateRequest(
+                errorRequest("/accounts/1", "POST", "{}"), reference(specification), loader);
+        ValidationResult second = validationEngine.validateRequest(
+                errorRequest("/accounts/2", "POST", "{\"amount\": 1}"), reference(specification), loader);
+
+        // Then
+        assertThat(first.isValid()).isFalse();
+        assertThat(second.isValid()).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void validateRequest_withReferenceToAChangedSpecification_shouldReturnRetryableResult() {
+        // Given
+        OpenAPISpecification specification = specification(SPEC);
+        SpecificationReference reference = reference(specification);
+        specification.setUpdatedAt(specification.getUpdatedAt().plusMinutes(1));
+
+        // When
+        ValidationResult result = validationEngine.validateRequest(
+                errorRequest("/accounts/1", "POST", "{}"), reference, () -> specification);
+
+        // Then
+        assertThat(result.isRetryable()).isTrue();
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Validation deferred");
+    }
+
+    private OpenAPISpecification specification(String content) {
+        return OpenAPISpecification.builder()
+                .id(UUID.randomUUID())
+                .apiIdentifier("accounts-api")
+                .specContent(content)
+                .version("1.0.0")
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static SpecificationReference reference(OpenAPISpecification specification) {
+        return new SpecificationReference(specification.getId(), specification.getApiIdentifier(),
+                specification.getVersion(), specification.getUpdatedAt(), specification.getContentDigest());
+    }
+
+    private ErrorRequest errorRequest(String endpoint, String method, String payload) {
+        return ErrorRequest.builder()
+                .apiEndpoint(endpoint)
+                .httpMethod(method)
+                .requestPayload(payload)
+                .responseStatus(500)
+                .responseBody("{}")
+                .timestamp(LocalDateTime.now())
+                .environment("test")
+                .build();
+    }
+}
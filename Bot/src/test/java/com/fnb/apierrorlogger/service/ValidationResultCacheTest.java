@@ -0,0 +1,171 @@
+package com.fnb.apierrorlogger.service;
+
+import com.fnb.apierrorlogger.dto.CacheStatsResponse;
+import com.fnb.apierrorlogger.event.SpecificationUpdatedEvent;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ValidationResultCache.
+ * Tests key composition, expiry, eviction, invalidation and statistics.
+ */
+class ValidationResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void get_withIdenticalRequest_shouldReturnCopyOfStoredResult() {
+        // Given
+        ValidationResultCache cache = cache(10, Duration.ofMinutes(1));
+        SpecificationVersion specification = version(UUID.randomUUID(), LocalDateTime.now());
+        cache.put(errorRequest("post", "{\"amount\": 1}"), specification, failedResult());
+
+        // When
+        ValidationResult first = cache.get(errorRequest("POST", "{\"amount\": 1}"), specification);
+        first.addWarning("changed by caller");
+        ValidationResult second = cache.get(errorRequest("POST", "{\"amount\": 1}"), specification);
+
+        // Then
+        assertThat(second.isValid()).isFalse();
+        assertThat(second.getErrors()).hasSize(1);
+        assertThat(second.getWarnings()).isEmpty();
+        assertThat(cache.stats().getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void get_withDifferentPayloadOrVersion_shouldMiss() {
+        // Given
+        ValidationResultCache cache = cache(10, Duration.ofMinutes(1));
+        SpecificationVersion specification = version(UUID.randomUUID(), LocalDateTime.now());
+        cache.put(errorRequest("POST", "{}"), specification, failedResult());
+
+        SpecificationVersion updated = version(specification.getSpecificationId(),
+                specification.getUpdatedAt().plusSeconds(1));
+
+        // When/Then
+        assertThat(cache.get(errorRequest("POST", "{ }"), specification)).isNull();
+        assertThat(cache.get(errorRequest("PUT", "{}"), specification)).isNull();
+        assertThat(cache.get(errorRequest("POST", "{}"), updated)).isNull();
+        assertThat(cache.stats().getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    void key_builtOnce_shouldServeBothLookupAndStore() {
+        // Given
+        ValidationResultCache cache = cache(10, Duration.ofMinutes(1));
+        SpecificationVersion version = new SpecificationVersion(UUID.randomUUID(), "1.0.0", LocalDateTime.now(), null);
+        ValidationResultCache.ResultKey key = cache.key(errorRequest("POST", "{}"), version);
+
+        // When
+        ValidationResult miss = cache.get(key);
+        cache.put(key, failedResult());
+
+        // Then
+        assertThat(miss).isNull();
+        assertThat(cache.get(errorRequest("post", "{}"), version)).isNotNull();
+        assertThat(key).isEqualTo(cache.key(errorRequest("POST", "{}"), version));
+    }
+
+    @Test
+    void get_afterTimeToLive_shouldExpireEntry() {
+        // Given
+        ValidationResultCache cache = cache(10, Duration.ofSeconds(30));
+        SpecificationVersion specification = version(UUID.randomUUID(), LocalDateTime.now());
+        cache.put(errorRequest("POST", "{}"), specification, failedResult());
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Then
+        assertThat(cache.get(errorRequest("POST", "{}"), specification)).isNull();
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getExpirationCount()).isEqualTo(1);
+        assertThat(stats.getEntryCount()).isZero();
+    }
+
+    @Test
+    void put_beyondMaxEntries_shouldEvictLeastRecentlyUsed() {
+        // Given
+        ValidationResultCache cache = cache(2, Duration.ofMinutes(1));
+        SpecificationVersion specification = version(UUID.randomUUID(), LocalDateTime.now());
+        cache.put(errorRequest("POST", "1"), specification, failedResult());
+        cache.put(errorRequest("POST", "2"), specification, failedResult());
+        cache.get(errorRequest("POST", "1"), specification);
+
+        // When
+        cache.put(errorRequest("POST", "3"), specification, failedResult());
+
+        // Then
+        assertThat(cache.get(errorRequest("POST", "1"), specification)).isNotNull();
+        assertThat(cache.get(errorRequest("POST", "2"), specification)).isNull();
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onSpecificationUpdated_shouldDropResultsForThatSpecificationOnly() {
+        // Given
+        ValidationResultCache cache = cache(10, Duration.ofMinutes(1));
+        SpecificationVersion updated = version(UUID.randomUUID(), LocalDateTime.now());
+        SpecificationVersion other = version(UUID.randomUUID(), LocalDateTime.now());
+        cache.put(errorRequest("POST", "{}"), updated, failedResult());
+        cache.put(errorRequest("POST", "{}"), other, failedResult());
+
+        // When
+        cache.onSpecificationUpdated(new SpecificationUpdatedEvent(updated.getSpecificationId(), "accounts-api"));
+
+        // Then
+        assertThat(cache.get(errorRequest("POST", "{}"), updated)).isNull();
+        assertThat(cache.get(errorRequest("POST", "{}"), other)).isNotNull();
+    }
+
+    @Test
+    void put_withUnsavedSpecification_shouldNotCache() {
+        // Given
+        ValidationResultCache cache = cache(10, Duration.ofMinutes(1));
+        SpecificationVersion specification = version(null, LocalDateTime.now());
+
+        // When
+        cache.put(errorRequest("POST", "{}"), specification, failedResult());
+
+        // Then
+        assertThat(cache.stats().getEntryCount()).isZero();
+    }
+
+    private ValidationResultCache cache(int maxEntries, Duration timeToLive) {
+        return new ValidationResultCache(maxEntries, timeToLive, clock::get);
+    }
+
+    private static ValidationResult failedResult() {
+        return ValidationResult.failure(new ArrayList<>(List.of(ValidationError.builder()
+                .field("requestPayload.amount")
+                .message("Required field missing")
+                .build())));
+    }
+
+    private static SpecificationVersion version(UUID specificationId, LocalDateTime updatedAt) {
+        return new SpecificationVersion(specificationId, "1.0.0", updatedAt, null);
+    }
+
+    private static ErrorRequest errorRequest(String method, String payload) {
+        return ErrorRequest.builder()
+                .apiEndpoint("/accounts")
+                .httpMethod(method)
+                .requestPayload(payload)
+                .responseStatus(500)
+                .responseBody("{}")
+                .timestamp(LocalDateTime.now())
+                .environment("test")
+                .build();
+    }
+}
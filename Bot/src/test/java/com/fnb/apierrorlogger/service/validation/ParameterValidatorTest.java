@@ -0,0 +1,142 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import com.fnb.apierrorlogger.service.validation.schema.SchemaCompiler;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ParameterValidator.
+ * Tests path binding, query parsing and decoding, and schema checks of parameter values.
+ */
+class ParameterValidatorTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users/{id}/orders:
+                parameters:
+                  - name: id
+                    in: path
+                    required: true
+                    schema:
+                      type: integer
+                get:
+                  parameters:
+                    - name: limit
+                      in: query
+                      schema:
+                        type: integer
+                        maximum: 100
+                    - name: status
+                      in: query
+                      schema:
+                        type: string
+                        enum: [open, closed]
+                    - name: q
+                      in: query
+                      required: true
+                      schema:
+                        type: string
+                        pattern: '^[a-z ]+$'
+                    - name: ids
+                      in: query
+                      schema:
+                        type: array
+                        items:
+                          type: integer
+                    - name: X-Trace-Id
+                      in: header
+                      required: true
+                      schema:
+                        type: string
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private static final String PATTERN = "/users/{id}/orders";
+
+    private ParameterValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        OpenAPI openAPI = new OpenAPIV3Parser().readContents(SPEC, null, null).getOpenAPI();
+        PathItem pathItem = openAPI.getPaths().get(PATTERN);
+        SchemaCompiler schemaCompiler = new SchemaCompiler(null, new ObjectMapper());
+        validator = ParameterValidator.compile(PATTERN,
+                OperationValidator.effectiveParameters(pathItem, pathItem.getGet()), schemaCompiler);
+    }
+
+    @Test
+    void validate_withConformingParameters_shouldPass() {
+        ValidationResult result = validate("/users/42/orders?q=abc&limit=10&status=open&ids=1&ids=2");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    void validate_withNonIntegerPathSegment_shouldReportPathParameter() {
+        ValidationResult result = validate("/users/abc/orders?q=abc");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).extracting(ValidationError::getField).containsExactly("path.id");
+    }
+
+    @Test
+    void validate_withQueryKeywordViolations_shouldReportEachParameter() {
+        ValidationResult result = validate("/users/1/orders?q=ABC&limit=500&status=pending");
+
+        assertThat(result.getErrors()).extracting(ValidationError::getField)
+                .containsExactlyInAnyOrder("query.q", "query.limit", "query.status");
+    }
+
+    @Test
+    void validate_withMissingRequiredQueryParameter_shouldReportMissing() {
+        ValidationResult result = validate("/users/1/orders?limit=5");
+
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getField()).isEqualTo("query.q");
+            assertThat(error.getActualValue()).isEqualTo("missing");
+        });
+    }
+
+    @Test
+    void validate_withRepeatedArrayParameter_shouldCheckEveryItem() {
+        ValidationResult result = validate("/users/1/orders?q=abc&ids=1&ids=x&ids=3");
+
+        assertThat(result.getErrors()).extracting(ValidationError::getField).containsExactly("query.ids[1]");
+    }
+
+    @Test
+    void validate_withEncodedValues_shouldDecodeBeforeChecking() {
+        ValidationResult result = validate("/users/1/orders?q=hello+world&st%61tus=closed");
+
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    void validate_withRequiredHeaderParameter_shouldWarn() {
+        ValidationResult result = validate("/users/1/orders?q=abc");
+
+        assertThat(result.getWarnings()).containsExactly(
+                "Required header parameter 'X-Trace-Id' cannot be checked because request headers are not captured");
+    }
+
+    private ValidationResult validate(String endpoint) {
+        ValidationResult result = ValidationResult.success();
+        validator.validate(endpoint, result);
+        return result;
+    }
+}
@@ -0,0 +1,142 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.servers.Server;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PathRouter.
+ * Tests literal and template matching, precedence, base path stripping and method masks.
+ */
+class PathRouterTest {
+
+    @Test
+    void route_withLiteralPath_shouldMatch() {
+        // Given
+        PathRouter router = compile(paths("/accounts", "/accounts/summary"));
+
+        // When/Then
+        assertThat(router.route("/accounts").getPattern()).isEqualTo("/accounts");
+        assertThat(router.route("/accounts/summary").getPattern()).isEqualTo("/accounts/summary");
+        assertThat(router.route("/accounts/other")).isNull();
+        assertThat(router.size()).isEqualTo(2);
+    }
+
+    @Test
+    void route_withTemplatePath_shouldMatchAnySegment() {
+        // Given
+        PathRouter router = compile(paths("/users/{id}", "/users/{id}/orders/{orderId}"));
+
+        // When/Then
+        assertThat(router.route("/users/123").getPattern()).isEqualTo("/users/{id}");
+        assertThat(router.route("/users/123/orders/9").getPattern()).isEqualTo("/users/{id}/orders/{orderId}");
+        assertThat(router.route("/users")).isNull();
+        assertThat(router.route("/users/123/orders")).isNull();
+    }
+
+    @Test
+    void route_withLiteralAndTemplate_shouldPreferLiteral() {
+        // Given
+        PathRouter router = compile(paths("/users/{id}", "/users/me"));
+
+        // When/Then
+        assertThat(router.route("/users/me").getPattern()).isEqualTo("/users/me");
+        assertThat(router.route("/users/42").getPattern()).isEqualTo("/users/{id}");
+    }
+
+    @Test
+    void route_whenLiteralBranchDeadEnds_shouldFallBackToTemplate() {
+        // Given
+        PathRouter router = compile(paths("/users/me/profile", "/users/{id}/orders"));
+
+        // When/Then
+        assertThat(router.route("/users/me/orders").getPattern()).isEqualTo("/users/{id}/orders");
+    }
+
+    @Test
+    void route_shouldIgnoreQueryStringAndTrailingSlash() {
+        // Given
+        PathRouter router = compile(paths("/accounts/{id}"));
+
+        // When/Then
+        assertThat(router.route("/accounts/7?expand=true").getPattern()).isEqualTo("/accounts/{id}");
+        assertThat(router.route("/accounts/7/").getPattern()).isEqualTo("/accounts/{id}");
+    }
+
+    @Test
+    void route_withManyPaths_shouldResolveEach() {
+        // Given
+        Paths paths = new Paths();
+        for (int i = 0; i < 500; i++) {
+            paths.addPathItem("/resource" + i + "/{id}", new PathItem().get(new Operation()));
+        }
+        PathRouter router = compile(paths);
+
+        // When/Then
+        for (int i = 0; i < 500; i++) {
+            assertThat(router.route("/resource" + i + "/abc").getPattern()).isEqualTo("/resource" + i + "/{id}");
+        }
+    }
+
+    @Test
+    void match_behindServerPathOrGatewayPrefix_shouldStripThePrefix() {
+        // Given
+        OpenAPI openAPI = new OpenAPI()
+                .paths(paths("/accounts/{id}", "/v1/status"))
+                .addServersItem(new Server().url("https://api.example.com/v1"));
+        PathRouter router = new SpecificationCompiler(new ObjectMapper())
+                .compile(openAPI, 0, List.of("/gateway")).getRouter();
+
+        // When
+        RouteMatch serverPath = router.match("/v1/accounts/7?expand=true");
+        RouteMatch gatewayAndServerPath = router.match("/gateway/v1/accounts/7");
+        RouteMatch fullUrl = router.match("https://api.example.com/v1/accounts/7");
+
+        // Then
+        assertThat(serverPath.getPath().getPattern()).isEqualTo("/accounts/{id}");
+        assertThat(serverPath.getEndpoint()).isEqualTo("/accounts/7?expand=true");
+        assertThat(gatewayAndServerPath.getEndpoint()).isEqualTo("/accounts/7");
+        assertThat(fullUrl.getEndpoint()).isEqualTo("/accounts/7");
+        assertThat(router.match("/v1/status").getPath().getPattern()).isEqualTo("/v1/status");
+        assertThat(router.match("/v1/status").getEndpoint()).isEqualTo("/v1/status");
+        assertThat(router.route("/v2/accounts/7")).isNull();
+    }
+
+    @Test
+    void allowedMethods_shouldReflectDeclaredOperations() {
+        // Given
+        Paths paths = new Paths();
+        paths.addPathItem("/items", new PathItem().get(new Operation()).post(new Operation()));
+        PathRouter router = compile(paths);
+
+        // When
+        CompiledPath path = router.route("/items");
+
+        // Then
+        assertThat(path.allows(HttpMethods.indexOf("get"))).isTrue();
+        assertThat(path.allows(HttpMethods.indexOf("POST"))).isTrue();
+        assertThat(path.allows(HttpMethods.indexOf("DELETE"))).isFalse();
+        assertThat(path.allows(HttpMethods.indexOf("INVALID"))).isFalse();
+        assertThat(HttpMethods.names(path.getAllowedMethods())).containsExactly("GET", "POST");
+    }
+
+    private PathRouter compile(Paths paths) {
+        return new SpecificationCompiler(new ObjectMapper()).compile(new OpenAPI().paths(paths), 0).getRouter();
+    }
+
+    private Paths paths(String... patterns) {
+        Paths paths = new Paths();
+        for (String pattern : patterns) {
+            paths.addPathItem(pattern, new PathItem().get(new Operation()));
+        }
+        return paths;
+    }
+}
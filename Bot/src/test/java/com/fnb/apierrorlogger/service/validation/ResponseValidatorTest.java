@@ -0,0 +1,136 @@
+package com.fnb.apierrorlogger.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ErrorRequest;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ResponseValidator.
+ * Tests status lookup order, body schema checks and isolation from request validity.
+ */
+class ResponseValidatorTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /accounts:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                    '404':
+                      $ref: '#/components/responses/Error'
+                    5XX:
+                      description: Server error
+                      content:
+                        application/problem+json:
+                          schema:
+                            $ref: '#/components/schemas/Error'
+              /health:
+                get:
+                  responses:
+                    '204':
+                      description: No content
+            components:
+              schemas:
+                Error:
+                  type: object
+                  required: [code]
+                  properties:
+                    code:
+                      type: string
+              responses:
+                Error:
+                  description: Error
+                  content:
+                    application/json:
+                      schema:
+                        $ref: '#/components/schemas/Error'
+            """;
+
+    private PathRouter router;
+
+    @BeforeEach
+    void setUp() {
+        OpenAPI openAPI = new OpenAPIV3Parser().readContents(SPEC, null, null).getOpenAPI();
+        router = new SpecificationCompiler(new ObjectMapper()).compile(openAPI, SPEC.length()).getRouter();
+    }
+
+    @Test
+    void validate_withDeclaredStatusAndMatchingBody_shouldPass() {
+        ValidationResult result = validate("/accounts", 200, "[]");
+
+        assertThat(result.isResponseValid()).isTrue();
+        assertThat(result.getResponseErrors()).isEmpty();
+    }
+
+    @Test
+    void validate_withReferencedResponse_shouldCheckBodyWithoutFailingRequest() {
+        ValidationResult result = validate("/accounts", 404, "{\"code\": 42}");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.isResponseValid()).isFalse();
+        assertThat(result.getResponseErrors()).extracting(ValidationError::getField).containsExactly("responseBody.code");
+    }
+
+    @Test
+    void validate_withStatusInDeclaredRange_shouldUseRangeSchema() {
+        ValidationResult result = validate("/accounts", 503, "{}");
+
+        assertThat(result.getResponseErrors()).extracting(ValidationError::getField).containsExactly("responseBody.code");
+    }
+
+    @Test
+    void validate_withUndeclaredStatus_shouldReportStatus() {
+        ValidationResult result = validate("/health", 500, "{\"code\": \"boom\"}");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getResponseErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getField()).isEqualTo("responseStatus");
+            assertThat(error.getExpectedType()).isEqualTo("one of: 204");
+            assertThat(error.getActualValue()).isEqualTo(500);
+        });
+    }
+
+    @Test
+    void validate_withNonJsonBody_shouldReportInvalidJson() {
+        ValidationResult result = validate("/accounts", 200, "<html>");
+
+        assertThat(result.getResponseErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getField()).isEqualTo("responseBody");
+            assertThat(error.getMessage()).startsWith("Invalid JSON response body");
+        });
+    }
+
+    private ValidationResult validate(String endpoint, int status, String body) {
+        ErrorRequest errorRequest = ErrorRequest.builder()
+                .apiEndpoint(endpoint)
+                .httpMethod("GET")
+                .responseStatus(status)
+                .responseBody(body)
+                .timestamp(LocalDateTime.now())
+                .environment("test")
+                .build();
+        ValidationResult result = ValidationResult.success();
+        router.route(endpoint).operation(HttpMethods.indexOf("GET"))
+                .validate(errorRequest, endpoint, result, ValidationSettings.defaults(), new ValidationTimings());
+        return result;
+    }
+}
@@ -0,0 +1,227 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for SchemaCompiler and the compiled validator tree.
+ * Tests each supported keyword against passing and failing payloads.
+ */
+class SchemaCompilerTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths: {}
+            components:
+              schemas:
+                Account:
+                  type: object
+                  required: [id, type]
+                  additionalProperties: false
+                  properties:
+                    id:
+                      type: string
+                      pattern: '^ACC-[0-9]+$'
+                    type:
+                      type: string
+                      enum: [cheque, savings]
+                    balance:
+                      type: number
+                      minimum: 0
+                    limit:
+                      type: integer
+                      maximum: 1000
+                      nullable: true
+                    tags:
+                      type: array
+                      maxItems: 2
+                      uniqueItems: true
+                      items:
+                        type: string
+                        minLength: 1
+                    owner:
+                      $ref: '#/components/schemas/Person'
+                Person:
+                  type: object
+                  required: [name]
+                  properties:
+                    name:
+                      type: string
+                    manager:
+                      $ref: '#/components/schemas/Person'
+                Payment:
+                  oneOf:
+                    - type: object
+                      required: [card]
+                    - type: object
+                      required: [eft]
+                Amount:
+                  anyOf:
+                    - type: integer
+                    - type: string
+                      format: uuid
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SchemaCompiler compiler;
+    private OpenAPI openAPI;
+
+    @BeforeEach
+    void setUp() {
+        openAPI = new OpenAPIV3Parser().readContents(SPEC, null, null).getOpenAPI();
+        compiler = new SchemaCompiler(openAPI.getComponents().getSchemas(), objectMapper);
+    }
+
+    @Test
+    void validate_withConformingObject_shouldPass() throws Exception {
+        ValidationResult result = validate("Account", """
+                {"id": "ACC-1", "type": "cheque", "balance": 10.5, "limit": null,
+                 "tags": ["a", "b"], "owner": {"name": "Thandi", "manager": {"name": "Pieter"}}}
+                """);
+
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    void validate_withMissingRequiredField_shouldReportField() throws Exception {
+        ValidationResult result = validate("Account", "{\"id\": \"ACC-1\"}");
+
+        assertThat(result.getErrors()).extracting(ValidationError::getField)
+                .containsExactly("requestPayload.type");
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Required field missing");
+    }
+
+    @Test
+    void validate_withKeywordViolations_shouldReportEachPath() throws Exception {
+        ValidationResult result = validate("Account", """
+                {"id": "X-1", "type": "credit", "balance": -1, "limit": 5000,
+                 "tags": ["a", "a", ""], "extra": true}
+                """);
+
+        assertThat(result.getErrors()).extracting(ValidationError::getField)
+                .contains(
+                        "requestPayload.id",
+                        "requestPayload.type",
+                        "requestPayload.balance",
+                        "requestPayload.limit",
+                        "requestPayload.tags",
+                        "requestPayload.tags[2]",
+                        "requestPayload.extra");
+    }
+
+    @Test
+    void validate_withWrongType_shouldReportExpectedType() throws Exception {
+        ValidationResult result = validate("Account", "{\"id\": 12, \"type\": \"cheque\"}");
+
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getField()).isEqualTo("requestPayload.id");
+        assertThat(result.getErrors().get(0).getExpectedType()).isEqualTo("string");
+    }
+
+    @Test
+    void validate_withRecursiveReference_shouldCheckNestedLevels() throws Exception {
+        ValidationResult result = validate("Person", "{\"name\": \"A\", \"manager\": {\"manager\": {}}}");
+
+        assertThat(result.getErrors()).extracting(ValidationError::getField)
+                .containsExactlyInAnyOrder("requestPayload.manager.name", "requestPayload.manager.manager.name");
+    }
+
+    @Test
+    void validate_withOneOf_shouldRequireExactlyOneMatch() throws Exception {
+        assertThat(validate("Payment", "{\"card\": 1}").getErrors()).isEmpty();
+        assertThat(validate("Payment", "{\"card\": 1, \"eft\": 2}").getErrors()).hasSize(1);
+        assertThat(validate("Payment", "{}").getErrors()).hasSize(1);
+    }
+
+    @Test
+    void validate_withAnyOf_shouldAcceptAnyMatchingBranch() throws Exception {
+        assertThat(validate("Amount", "42").getErrors()).isEmpty();
+        assertThat(validate("Amount", "\"123e4567-e89b-12d3-a456-426614174000\"").getErrors()).isEmpty();
+        assertThat(validate("Amount", "\"not-a-uuid\"").getErrors()).hasSize(1);
+        assertThat(validate("Amount", "4.5").getErrors()).hasSize(1);
+    }
+
+    @Test
+    void compile_withSameReference_shouldShareValidator() {
+        SchemaValidator first = compiler.compile(openAPI.getComponents().getSchemas().get("Account")
+                .getProperties().get("owner"));
+        SchemaValidator second = compiler.compile(openAPI.getComponents().getSchemas().get("Person")
+                .getProperties().get("manager"));
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Account | {\"id\": \"ACC-1\", \"type\": \"cheque\", \"owner\": {\"name\": \"A\", \"manager\": {}}}",
+            "Account | {\"id\": \"X-1\", \"type\": \"credit\", \"balance\": -1, \"limit\": 5000, \"tags\": [\"a\", \"a\", \"\"], \"extra\": {}}",
+            "Account | {\"id\": 12, \"limit\": null, \"tags\": \"none\"}",
+            "Account | [1, 2, 3]",
+            "Payment | {\"card\": {\"nested\": [1]}, \"eft\": 2}",
+            "Amount  | 4.0"
+    })
+    void validateStreaming_shouldReportSameErrorsAsTree(String schemaName, String payload) throws Exception {
+        // Given
+        ValidationResult tree = validate(schemaName, payload);
+
+        // When
+        ValidationResult streamed = validateStreaming(schemaName, payload);
+
+        // Then
+        assertThat(streamed.getErrors()).extracting(ValidationError::getField, ValidationError::getMessage)
+                .containsExactlyInAnyOrderElementsOf(
+                        tree.getErrors().stream()
+                                .map(error -> tuple(error.getField(), error.getMessage()))
+                                .toList());
+    }
+
+    @Test
+    void validateStreaming_shouldLeaveParserAfterValue() throws Exception {
+        // Given
+        SchemaValidator validator = compiler.compile(openAPI.getComponents().getSchemas().get("Person"));
+
+        try (JsonParser parser = objectMapper.createParser("[{\"name\": \"A\", \"manager\": {\"name\": \"B\"}}, 7]")) {
+            parser.nextToken();
+            parser.nextToken();
+
+            // When
+            validator.validateValue(parser, new ValidationContext("requestPayload", ValidationResult.success()));
+
+            // Then
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.VALUE_NUMBER_INT);
+        }
+    }
+
+    private ValidationResult validateStreaming(String schemaName, String payload) throws Exception {
+        SchemaValidator validator = compiler.compile(openAPI.getComponents().getSchemas().get(schemaName));
+        ValidationResult result = ValidationResult.success();
+        try (JsonParser parser = objectMapper.createParser(payload)) {
+            parser.nextToken();
+            validator.validateValue(parser, new ValidationContext("requestPayload", result));
+        }
+        return result;
+    }
+
+    private ValidationResult validate(String schemaName, String payload) throws Exception {
+        SchemaValidator validator = compiler.compile(openAPI.getComponents().getSchemas().get(schemaName));
+        ValidationResult result = ValidationResult.success();
+        validator.validate(objectMapper.readTree(payload), new ValidationContext("requestPayload", result));
+        return result;
+    }
+}
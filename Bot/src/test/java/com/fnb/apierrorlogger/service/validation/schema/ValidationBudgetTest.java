@@ -0,0 +1,155 @@
+package com.fnb.apierrorlogger.service.validation.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fnb.apierrorlogger.model.ValidationError;
+import com.fnb.apierrorlogger.model.ValidationResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ValidationBudget.
+ * Tests that each limit stops validation and is reported as a budget error.
+ */
+class ValidationBudgetTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths: {}
+            components:
+              schemas:
+                Tree:
+                  type: object
+                  properties:
+                    children:
+                      type: array
+                      items:
+                        $ref: '#/components/schemas/Tree'
+                Codes:
+                  type: array
+                  items:
+                    type: string
+                    maxLength: 1
+                Code:
+                  type: string
+                  pattern: '^[a-z]+$'
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SchemaCompiler compiler;
+    private OpenAPI openAPI;
+
+    @BeforeEach
+    void setUp() {
+        openAPI = new OpenAPIV3Parser().readContents(SPEC, null, null).getOpenAPI();
+        compiler = new SchemaCompiler(openAPI.getComponents().getSchemas(), objectMapper);
+    }
+
+    @Test
+    void validate_withNestingBeyondMaxDepth_shouldReportBudgetError() throws Exception {
+        // Given
+        String payload = "{\"children\": [".repeat(20) + "{}" + "]}".repeat(20);
+
+        // When
+        ValidationResult result = validate("Tree", payload, new ValidationBudget(10, 1000, 5000, 100));
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getErrorType()).isEqualTo(ValidationError.TYPE_BUDGET_EXCEEDED);
+        assertThat(result.getErrors().get(0).getExpectedType()).isEqualTo("depth <= 10");
+    }
+
+    @Test
+    void validate_withMoreNodesThanAllowed_shouldReportBudgetError() throws Exception {
+        // Given
+        String payload = "[" + "\"a\",".repeat(50) + "\"a\"]";
+
+        // When
+        ValidationResult result = validate("Codes", payload, new ValidationBudget(10, 20, 5000, 100));
+
+        // Then
+        assertThat(result.getErrors()).extracting(ValidationError::getExpectedType).containsExactly("nodes <= 20");
+    }
+
+    @Test
+    void validate_whenErrorCapReached_shouldStopEarly() throws Exception {
+        // Given
+        String payload = "[" + "\"ab\",".repeat(50) + "\"ab\"]";
+
+        // When
+        ValidationResult result = validate("Codes", payload, new ValidationBudget(10, 1000, 5000, 3));
+
+        // Then
+        assertThat(result.getErrors()).hasSize(4);
+        assertThat(result.getErrors().get(3).getErrorType()).isEqualTo(ValidationError.TYPE_ERROR_LIMIT_REACHED);
+        assertThat(result.getErrors().get(3).getMessage()).isEqualTo("Validation stopped after 3 errors");
+    }
+
+    @Test
+    void validate_whenTimeLimitPassed_shouldReportBudgetError() throws Exception {
+        // Given
+        String payload = "[" + "\"a\",".repeat(1000) + "\"a\"]";
+
+        // When
+        ValidationResult result = validate("Codes", payload, new ValidationBudget(10, 10_000, -1, 100));
+
+        // Then
+        assertThat(result.getErrors()).extracting(ValidationError::getErrorType)
+                .containsExactly(ValidationError.TYPE_BUDGET_EXCEEDED);
+    }
+
+    @Test
+    void validate_whenTimeLimitPassesWhileMatchingAPattern_shouldReportBudgetError() throws Exception {
+        // Given a single value, so the time limit is only noticed while the pattern is matched
+        String payload = "\"" + "a".repeat(10_000) + "\"";
+
+        // When
+        ValidationResult result = validate("Code", payload, new ValidationBudget(10, 10_000, -1, 100));
+
+        // Then
+        assertThat(result.getErrors()).extracting(ValidationError::getErrorType)
+                .containsExactly(ValidationError.TYPE_BUDGET_EXCEEDED);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Validation exceeded its time limit");
+    }
+
+    @Test
+    void isTimeLimitError_shouldSingleOutTheTimeLimit() throws Exception {
+        // Given
+        ValidationError timeLimit = validate("Code", "\"" + "a".repeat(10_000) + "\"",
+                new ValidationBudget(10, 10_000, -1, 100)).getErrors().get(0);
+        ValidationError nodeLimit = validate("Codes", "[\"a\", \"a\", \"a\"]", new ValidationBudget(10, 2, 5000, 100))
+                .getErrors().get(0);
+        ValidationError errorLimit = validate("Codes", "[\"ab\", \"ab\"]", new ValidationBudget(10, 1000, 5000, 1))
+                .getErrors().get(1);
+
+        // When/Then
+        assertThat(ValidationBudget.isTimeLimitError(timeLimit)).isTrue();
+        assertThat(ValidationBudget.isTimeLimitError(nodeLimit)).isFalse();
+        assertThat(ValidationBudget.isTimeLimitError(errorLimit)).isFalse();
+    }
+
+    @Test
+    void validate_withinBudget_shouldReportOrdinaryErrorsOnly() throws Exception {
+        // When
+        ValidationResult result = validate("Codes", "[\"a\", \"bc\"]", new ValidationBudget(10, 1000, 5000, 100));
+
+        // Then
+        assertThat(result.getErrors()).extracting(ValidationError::getField).containsExactly("requestPayload[1]");
+        assertThat(result.getErrors().get(0).getErrorType()).isNull();
+    }
+
+    private ValidationResult validate(String schemaName, String payload, ValidationBudget budget) throws Exception {
+        SchemaValidator validator = compiler.compile(openAPI.getComponents().getSchemas().get(schemaName));
+        ValidationResult result = ValidationResult.success();
+        validator.validate(objectMapper.readTree(payload), new ValidationContext("requestPayload", result, budget));
+        budget.reportTo(result, "requestPayload", "payload");
+        return result;
+    }
+}